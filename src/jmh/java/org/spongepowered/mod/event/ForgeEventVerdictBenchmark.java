@@ -0,0 +1,103 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.mod.event;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import net.minecraftforge.event.world.ExplosionEvent;
+import org.apache.logging.log4j.LogManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.spongepowered.api.event.EventListener;
+import org.spongepowered.api.plugin.PluginContainer;
+import org.spongepowered.api.plugin.PluginManager;
+import org.spongepowered.common.event.RegisteredListener;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.Nullable;
+
+/**
+ * Measures the decision {@code EventBusMixin_Forge#forgeBridge$post} takes
+ * for every Forge event posted on the server thread, with 0, 1 and 50 Sponge
+ * listeners registered for the event it is bridged to.
+ *
+ * <p>Only the decision is measured. Posting the bridged event creates the
+ * Sponge event with its cause, which needs the cause stack manager and phase
+ * tracker of a running server, and the mixins aren't applied in the
+ * benchmark JVM.</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ForgeEventVerdictBenchmark {
+
+    @Param({"0", "1", "50"})
+    public int listeners;
+
+    private SpongeModEventManager eventManager;
+    private ExplosionEvent.Start event;
+
+    @Setup
+    public void setup() {
+        final Object plugin = new Object();
+        final PluginManager pluginManager = mock(PluginManager.class);
+        when(pluginManager.fromInstance(plugin)).thenReturn(Optional.of(mock(PluginContainer.class)));
+
+        this.eventManager = new SpongeModEventManager(LogManager.getLogger("Benchmark"), pluginManager);
+        for (int i = 0; i < this.listeners; i++) {
+            this.eventManager.registerListener(plugin, org.spongepowered.api.event.world.ExplosionEvent.Pre.class, new NoopListener());
+        }
+        // Done by SpongeEventManagerMixin_Forge in a running server
+        this.eventManager.onListenersChanged();
+
+        this.event = new ExplosionEvent.Start(null, null);
+    }
+
+    @Benchmark
+    @Nullable
+    public RegisteredListener.Cache post() {
+        final ForgeEventVerdict verdict = ForgeEventVerdict.of(this.event);
+        if (verdict.isIgnored(this.event) || !verdict.isAllowed()) {
+            return null;
+        }
+        return verdict.getBridgedListeners(this.event, this.eventManager);
+    }
+
+    private static final class NoopListener implements EventListener<org.spongepowered.api.event.world.ExplosionEvent.Pre> {
+
+        @Override
+        public void handle(org.spongepowered.api.event.world.ExplosionEvent.Pre event) {
+        }
+    }
+}
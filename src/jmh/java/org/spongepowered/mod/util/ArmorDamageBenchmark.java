@@ -0,0 +1,85 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.mod.util;
+
+import net.minecraftforge.common.ISpecialArmor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.spongepowered.api.event.cause.entity.damage.DamageFunction;
+import org.spongepowered.api.item.inventory.ItemStackSnapshot;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the armor part of constructing a {@code DamageEntityEvent} for a
+ * fully armored entity: creating the damage function and damage modifier of
+ * each of the four armor pieces, then evaluating the functions against the
+ * running damage as the event does.
+ *
+ * <p>Snapshots of the armor can't be created without a running game, so
+ * every piece uses {@link ItemStackSnapshot#NONE}.</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ArmorDamageBenchmark {
+
+    private static final int ARMOR_PIECES = 4;
+
+    @Param({"2.0", "20.0"})
+    public double damage;
+
+    private ISpecialArmor.ArmorProperties[] properties;
+    private Object[] armor;
+
+    @Setup
+    public void setup() {
+        this.properties = new ISpecialArmor.ArmorProperties[ARMOR_PIECES];
+        this.armor = new Object[ARMOR_PIECES];
+        for (int slot = 0; slot < ARMOR_PIECES; slot++) {
+            final ISpecialArmor.ArmorProperties prop = new ISpecialArmor.ArmorProperties(0, 0.2, Integer.MAX_VALUE);
+            prop.Slot = slot;
+            this.properties[slot] = prop;
+            this.armor[slot] = new Object();
+        }
+    }
+
+    @Benchmark
+    public double damageEntity() {
+        final DamageEventObject[] functions = StaticMixinForgeHelper.createArmorFunctions(this.properties.clone(), this.damage);
+        double finalDamage = this.damage;
+        for (final DamageEventObject object : functions) {
+            final DamageFunction function = StaticMixinForgeHelper.createArmorModifier(object, ItemStackSnapshot.NONE, this.armor[object.prop.Slot]);
+            finalDamage += function.getFunction().applyAsDouble(finalDamage);
+        }
+        return finalDamage;
+    }
+}
@@ -36,6 +36,7 @@
 import net.minecraft.launchwrapper.Launch;
 import net.minecraft.network.NetworkManager;
 import net.minecraft.util.ResourceLocation;
+import net.minecraft.util.math.ChunkPos;
 import net.minecraftforge.common.ForgeChunkManager;
 import net.minecraftforge.common.ForgeModContainer;
 import net.minecraftforge.common.MinecraftForge;
@@ -122,8 +123,11 @@
 import org.spongepowered.common.util.SpongeHooks;
 import org.spongepowered.common.world.WorldManager;
 import org.spongepowered.common.world.storage.SpongePlayerDataHandler;
+import org.spongepowered.mod.event.BridgeMetrics;
+import org.spongepowered.mod.event.InventoryTransferBatch;
 import org.spongepowered.mod.inject.SpongeForgeModule;
 import org.spongepowered.mod.bridge.registry.VillagerProfessionBridge_Forge;
+import org.spongepowered.mod.bridge.world.WorldBridge_Forge;
 import org.spongepowered.mod.network.SpongeModMessageHandler;
 import org.spongepowered.mod.plugin.MetaModContainer;
 import org.spongepowered.mod.plugin.SpongeModPluginContainer;
@@ -132,6 +136,7 @@
 import org.spongepowered.mod.registry.SpongeGameData;
 import org.spongepowered.mod.service.permission.SpongePermissionHandler;
 import org.spongepowered.mod.service.world.SpongeChunkTicketManager;
+import org.spongepowered.mod.util.OptimizationFlags;
 import org.spongepowered.mod.util.StaticMixinForgeHelper;
 
 import java.io.File;
@@ -418,6 +423,7 @@ public void onPreInit(FMLPreInitializationEvent event) {
             }
             SpongeImpl.getRegistry().preInit();
             SpongeModMessageHandler.init();
+            BridgeMetrics.registerMBean();
 
             Preconditions.checkArgument(Class.forName("org.spongepowered.api.entity.ai.task.AbstractAITask").getSuperclass().equals(SpongeEntityAICommonSuperclass.class));
 
@@ -444,6 +450,13 @@ public void onTick(TickEvent.ServerTickEvent event) {
         }
     }
 
+    @SubscribeEvent
+    public void onWorldTick(TickEvent.WorldTickEvent event) {
+        if (event.phase == TickEvent.Phase.END && OptimizationFlags.BATCH_INVENTORY_TRANSFERS) {
+            InventoryTransferBatch.flush();
+        }
+    }
+
     @SideOnly(Side.CLIENT)
     @SubscribeEvent
     public void onTick(TickEvent.ClientTickEvent event) {
@@ -484,7 +497,10 @@ public void onEntityRegister(RegistryEvent.Register<EntityEntry> event) {
 
     @SubscribeEvent
     public void onForceChunk(ForgeChunkManager.ForceChunkEvent event) {
-        final net.minecraft.world.chunk.Chunk chunk = ((ChunkProviderBridge) event.getTicket().world.getChunkProvider())
+        final net.minecraft.world.World world = event.getTicket().world;
+        SpongeChunkTicketManager.onChunkForced(event.getTicket(), event.getLocation());
+        ((WorldBridge_Forge) world).forgeBridge$getForcedChunks().add(ChunkPos.asLong(event.getLocation().x, event.getLocation().z));
+        final net.minecraft.world.chunk.Chunk chunk = ((ChunkProviderBridge) world.getChunkProvider())
             .bridge$getLoadedChunkWithoutMarkingActive(event.getLocation().x,  event.getLocation().z);
         if (chunk != null) {
             ((ChunkBridge) chunk).bridge$setPersistedChunk(true);
@@ -493,7 +509,17 @@ public void onForceChunk(ForgeChunkManager.ForceChunkEvent event) {
 
     @SubscribeEvent
     public void onUnforceChunk(ForgeChunkManager.UnforceChunkEvent event) {
-        final net.minecraft.world.chunk.Chunk chunk = ((ChunkProviderBridge) event.getTicket().world.getChunkProvider())
+        final net.minecraft.world.World world = event.getTicket().world;
+        SpongeChunkTicketManager.onChunkUnforced(event.getTicket(), event.getLocation());
+        // This is fired before the ticket is removed from the persistent chunks, so
+        // the chunk stays forced as long as any other ticket still holds it.
+        for (ForgeChunkManager.Ticket ticket : world.getPersistentChunks().get(event.getLocation())) {
+            if (ticket != event.getTicket()) {
+                return;
+            }
+        }
+        ((WorldBridge_Forge) world).forgeBridge$getForcedChunks().remove(ChunkPos.asLong(event.getLocation().x, event.getLocation().z));
+        final net.minecraft.world.chunk.Chunk chunk = ((ChunkProviderBridge) world.getChunkProvider())
             .bridge$getLoadedChunkWithoutMarkingActive(event.getLocation().x,  event.getLocation().z);
         if (chunk != null) {
             ((ChunkBridge) chunk).bridge$setPersistedChunk(false);
@@ -0,0 +1,62 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.mod.bridge.block;
+
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.IBlockAccess;
+
+public interface BlockStateBridge_Forge {
+
+    /**
+     * Gets the light value of this state, only asking the block for the
+     * position specific value if the block overrides the location aware
+     * method.
+     *
+     * @param world The world
+     * @param pos The position
+     * @return The light value
+     */
+    int forgeBridge$getLightValue(IBlockAccess world, BlockPos pos);
+
+    /**
+     * Gets the light opacity of this state, only asking the block for the
+     * position specific value if the block overrides the location aware
+     * method.
+     *
+     * @param world The world
+     * @param pos The position
+     * @return The light opacity
+     */
+    int forgeBridge$getLightOpacity(IBlockAccess world, BlockPos pos);
+
+    /**
+     * Gets the light opacity of this state if it is the same at every
+     * position.
+     *
+     * @return The light opacity, or -1 if it depends on the position
+     */
+    int forgeBridge$getConstantLightOpacity();
+
+}
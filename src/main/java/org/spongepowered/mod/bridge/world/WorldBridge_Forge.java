@@ -24,7 +24,9 @@
  */
 package org.spongepowered.mod.bridge.world;
 
+import it.unimi.dsi.fastutil.longs.LongSet;
 import net.minecraft.world.storage.WorldInfo;
+import org.spongepowered.mod.service.world.ForcedChunkView;
 
 import javax.annotation.Nullable;
 
@@ -32,4 +34,15 @@ public interface WorldBridge_Forge {
 
     void forgeBridge$setRedirectedWorldInfo(@Nullable WorldInfo info);
 
+    /**
+     * Gets the positions, as {@link net.minecraft.util.math.ChunkPos#asLong},
+     * of all chunks currently forced by a ticket in this world. This is kept
+     * in sync with the persistent chunks of the {@code ForgeChunkManager}.
+     *
+     * @return The forced chunk positions
+     */
+    LongSet forgeBridge$getForcedChunks();
+
+    ForcedChunkView forgeBridge$getForcedChunkView();
+
 }
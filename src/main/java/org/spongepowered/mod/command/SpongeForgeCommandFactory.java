@@ -24,9 +24,11 @@
  */
 package org.spongepowered.mod.command;
 
+import static org.spongepowered.api.command.args.GenericArguments.choices;
 import static org.spongepowered.api.command.args.GenericArguments.optional;
 import static org.spongepowered.api.command.args.GenericArguments.plugin;
 
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Lists;
 import org.spongepowered.api.command.CommandResult;
 import org.spongepowered.api.command.spec.CommandSpec;
@@ -39,6 +41,8 @@
 import org.spongepowered.common.SpongeImpl;
 import org.spongepowered.common.command.SpongeCommandFactory;
 import org.spongepowered.common.command.args.FilteredPluginsCommandElement;
+import org.spongepowered.mod.event.BridgeMetrics;
+import org.spongepowered.mod.item.inventory.fabric.CapabilityProfile;
 import org.spongepowered.mod.plugin.SpongeModPluginContainer;
 
 import java.util.ArrayList;
@@ -115,6 +119,78 @@ public static CommandSpec createSpongeModsCommand() {
                 }).build();
     }
 
+    public static CommandSpec createSpongeBridgeMetricsCommand() {
+        return CommandSpec.builder()
+                .description(Text.of("Toggle or show the metrics of the Forge/Sponge event bridge"))
+                .permission("sponge.command.bridgemetrics")
+                .arguments(optional(choices(Text.of("action"), ImmutableMap.of("enable", "enable", "disable", "disable", "reset", "reset"))))
+                .executor((src, args) -> {
+                    final String action = args.<String>getOne("action").orElse("");
+                    switch (action) {
+                        case "enable":
+                            BridgeMetrics.enable(true);
+                            src.sendMessage(Text.of(TextColors.GREEN, "Event bridge metrics enabled"));
+                            break;
+                        case "disable":
+                            BridgeMetrics.enable(false);
+                            src.sendMessage(Text.of(TextColors.GREEN, "Event bridge metrics disabled"));
+                            break;
+                        case "reset":
+                            BridgeMetrics.clear();
+                            src.sendMessage(Text.of(TextColors.GREEN, "Event bridge metrics reset"));
+                            break;
+                        default:
+                            final List<Text> lines = new ArrayList<>();
+                            for (String line : BridgeMetrics.summarize()) {
+                                lines.add(Text.of(TextColors.WHITE, line));
+                            }
+                            PaginationList.builder()
+                                    .title(Text.of(TextColors.RED, "Event Bridge Metrics", TextColors.WHITE,
+                                            " (", BridgeMetrics.enabled() ? "enabled" : "disabled", ")"))
+                                    .padding(Text.of(TextColors.DARK_GREEN, "="))
+                                    .contents(lines)
+                                    .sendTo(src);
+                    }
+                    return CommandResult.success();
+                }).build();
+    }
+
+    public static CommandSpec createSpongeCapabilitiesCommand() {
+        return CommandSpec.builder()
+                .description(Text.of("Toggle or show how modded classes expose inventory capabilities"))
+                .permission("sponge.command.capabilities")
+                .arguments(optional(choices(Text.of("action"), ImmutableMap.of("enable", "enable", "disable", "disable", "reset", "reset"))))
+                .executor((src, args) -> {
+                    final String action = args.<String>getOne("action").orElse("");
+                    switch (action) {
+                        case "enable":
+                            CapabilityProfile.setCollecting(true);
+                            src.sendMessage(Text.of(TextColors.GREEN, "Capability profile collection enabled"));
+                            break;
+                        case "disable":
+                            CapabilityProfile.setCollecting(false);
+                            src.sendMessage(Text.of(TextColors.GREEN, "Capability profile collection disabled"));
+                            break;
+                        case "reset":
+                            CapabilityProfile.reset();
+                            src.sendMessage(Text.of(TextColors.GREEN, "Capability profiles reset"));
+                            break;
+                        default:
+                            final List<Text> lines = new ArrayList<>();
+                            for (String line : CapabilityProfile.summarize()) {
+                                lines.add(Text.of(TextColors.WHITE, line));
+                            }
+                            PaginationList.builder()
+                                    .title(Text.of(TextColors.RED, "Inventory Capability Profiles", TextColors.WHITE,
+                                            " (", CapabilityProfile.isCollecting() ? "enabled" : "disabled", ")"))
+                                    .padding(Text.of(TextColors.DARK_GREEN, "="))
+                                    .contents(lines)
+                                    .sendTo(src);
+                    }
+                    return CommandResult.success();
+                }).build();
+    }
+
     private static Predicate<? super PluginContainer> getFilteredModsPredicate() {
         return plugin -> !SpongeCommandFactory.CONTAINER_LIST_STATICS.contains(plugin.getId()) && !(plugin instanceof SpongeModPluginContainer);
     }
@@ -0,0 +1,105 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.mod.entity;
+
+import net.minecraftforge.fml.common.Loader;
+import net.minecraftforge.fml.common.ModContainer;
+import org.spongepowered.api.entity.ai.task.AITask;
+import org.spongepowered.api.entity.ai.task.AITaskType;
+import org.spongepowered.api.entity.living.Agent;
+import org.spongepowered.api.plugin.PluginContainer;
+import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.registry.type.entity.AITaskTypeModule;
+
+import java.util.Optional;
+
+import javax.annotation.Nullable;
+
+/**
+ * Resolves the {@link AITaskType} of an AI task class once, registering a
+ * type for mod and un-implemented Minecraft tasks, so constructing a task
+ * doesn't look it up again.
+ */
+public final class AITaskTypeCache {
+
+    private static final ClassValue<AITaskType> taskTypes = new ClassValue<AITaskType>() {
+        @Override
+        protected AITaskType computeValue(final Class<?> type) {
+            return resolve(type);
+        }
+    };
+
+    /**
+     * Finds or registers the type of the given task class. Racing threads
+     * may both compute the value for a class, so registering is done under
+     * a lock after checking again for a type registered in the meantime.
+     */
+    @SuppressWarnings("unchecked")
+    private static synchronized AITaskType resolve(final Class<?> type) {
+        final Optional<AITaskType> optModType = AITaskTypeModule.getInstance().getByAIClass(type);
+        if (optModType.isPresent()) {
+            return optModType.get();
+        }
+        // The task may be constructed long after its mod was loaded, so
+        // the owning mod is found from the class rather than the active one
+        PluginContainer container = (PluginContainer) getOwningMod(type);
+        if (container == null) {
+            container = (PluginContainer) Loader.instance().activeModContainer();
+        }
+        // FML couldn't figure out the mod...give the task to Minecraft
+        if (container == null) {
+            // May need to log this...
+            container = SpongeImpl.getMinecraftPlugin();
+        }
+        final String idAndName = type.getSimpleName();
+        return AITaskTypeModule.getInstance().createAITaskType(container, idAndName, idAndName,
+                (Class<? extends AITask<? extends Agent>>) type);
+    }
+
+    @Nullable
+    private static ModContainer getOwningMod(final Class<?> type) {
+        final String className = type.getName();
+        final int lastDot = className.lastIndexOf('.');
+        if (lastDot == -1) {
+            return null;
+        }
+        // Nested classes share the package of their outer class
+        final String modPackage = className.substring(0, lastDot);
+        for (final ModContainer mc : Loader.instance().getActiveModList()) {
+            if (mc.getOwnedPackages().contains(modPackage)) {
+                return mc;
+            }
+        }
+        return null;
+    }
+
+    private AITaskTypeCache() {
+    }
+
+    public static AITaskType get(final Class<?> taskClass) {
+        return taskTypes.get(taskClass);
+    }
+
+}
@@ -0,0 +1,81 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.mod.event;
+
+import org.spongepowered.api.event.Order;
+import org.spongepowered.common.event.RegisteredListener;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The listeners of a {@link RegisteredListener.Cache} flattened into arrays
+ * sorted by {@link Order}, and pre-partitioned by whether they run before
+ * or after modifications. This allows an event to be posted in a single
+ * loop instead of looking up each order separately.
+ */
+final class BakedListeners {
+
+    private static final Order[] ORDERS = Order.values();
+
+    /**
+     * All listeners, used when posting is forced.
+     */
+    final RegisteredListener<?>[] all;
+    /**
+     * The listeners that observe the event before modifications.
+     */
+    final RegisteredListener<?>[] beforeModifications;
+    /**
+     * The listeners that observe the event after modifications.
+     */
+    final RegisteredListener<?>[] afterModifications;
+
+    BakedListeners(RegisteredListener.Cache cache) {
+        final List<RegisteredListener<?>> all = new ArrayList<>();
+        final List<RegisteredListener<?>> before = new ArrayList<>();
+        final List<RegisteredListener<?>> after = new ArrayList<>();
+        for (Order order : ORDERS) {
+            for (RegisteredListener<?> listener : cache.getListenersByOrder(order)) {
+                all.add(listener);
+                if (listener.isBeforeModifications()) {
+                    before.add(listener);
+                } else {
+                    after.add(listener);
+                }
+            }
+        }
+        this.all = all.toArray(new RegisteredListener<?>[0]);
+        this.beforeModifications = before.toArray(new RegisteredListener<?>[0]);
+        this.afterModifications = after.toArray(new RegisteredListener<?>[0]);
+    }
+
+    RegisteredListener<?>[] get(boolean beforeModifications, boolean forced) {
+        if (forced) {
+            return this.all;
+        }
+        return beforeModifications ? this.beforeModifications : this.afterModifications;
+    }
+}
@@ -0,0 +1,256 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.mod.event;
+
+import org.spongepowered.common.SpongeImpl;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.annotation.Nullable;
+import javax.management.ObjectName;
+
+/**
+ * Collects the cost of bridging events between Forge and Sponge, split by
+ * {@link Stage}, event class and owning mod or plugin. Samples only count
+ * their own time and allocations, anything spent in samples nested within
+ * them is attributed to those instead.
+ *
+ * <p>Collection is disabled by default, in which case {@link #begin()}
+ * returns {@code null} and callers skip recording entirely. Metrics can be
+ * toggled through the {@code /sponge bridgemetrics} command or the
+ * {@link BridgeMetricsMBean}.</p>
+ */
+public final class BridgeMetrics implements BridgeMetricsMBean {
+
+    public enum Stage {
+        /**
+         * Creating the event data, attributed to the owner of the first
+         * listener it is created for, when known.
+         */
+        CONVERSION,
+        LISTENER,
+        PHASE_SWITCH
+    }
+
+    private static final String NO_OWNER = "-";
+    private static final BridgeMetrics INSTANCE = new BridgeMetrics();
+    private static final Map<Key, Counter> counters = new ConcurrentHashMap<>();
+    private static final ThreadLocal<SampleStack> samples = ThreadLocal.withInitial(SampleStack::new);
+    @Nullable private static final com.sun.management.ThreadMXBean threadBean = findThreadBean();
+    private static volatile boolean enabled;
+
+    @Nullable
+    private static com.sun.management.ThreadMXBean findThreadBean() {
+        final ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean && ((com.sun.management.ThreadMXBean) bean).isThreadAllocatedMemorySupported()) {
+            return (com.sun.management.ThreadMXBean) bean;
+        }
+        return null;
+    }
+
+    public static void registerMBean() {
+        try {
+            ManagementFactory.getPlatformMBeanServer().registerMBean(INSTANCE, new ObjectName("org.spongepowered:type=BridgeMetrics"));
+        } catch (Exception e) {
+            SpongeImpl.getLogger().warn("Could not register the event bridge metrics MBean", e);
+        }
+    }
+
+    public static boolean enabled() {
+        return enabled;
+    }
+
+    public static void enable(boolean enable) {
+        if (enable && threadBean != null) {
+            threadBean.setThreadAllocatedMemoryEnabled(true);
+        }
+        enabled = enable;
+    }
+
+    public static void clear() {
+        counters.clear();
+    }
+
+    /**
+     * Starts measuring a stage.
+     *
+     * @return The sample to end, or null if metrics are disabled
+     */
+    @Nullable
+    public static Sample begin() {
+        return enabled ? new Sample() : null;
+    }
+
+    public static List<String> summarize() {
+        final List<Map.Entry<Key, Counter>> entries = new ArrayList<>(counters.entrySet());
+        entries.sort(Comparator.comparingLong((Map.Entry<Key, Counter> entry) -> entry.getValue().nanos.sum()).reversed());
+        final List<String> lines = new ArrayList<>(entries.size());
+        for (Map.Entry<Key, Counter> entry : entries) {
+            final Key key = entry.getKey();
+            final Counter counter = entry.getValue();
+            lines.add(String.format("%s %s %s count=%d time=%.3fms allocated=%dB", key.stage, key.eventClass.getName(), key.owner,
+                counter.count.sum(), counter.nanos.sum() / 1_000_000D, counter.bytes.sum()));
+        }
+        return lines;
+    }
+
+    private static long allocatedBytes() {
+        return threadBean == null ? 0L : threadBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public void setEnabled(boolean enabled) {
+        enable(enabled);
+    }
+
+    @Override
+    public void reset() {
+        clear();
+    }
+
+    @Override
+    public String[] getEntries() {
+        return summarize().toArray(new String[0]);
+    }
+
+    public static final class Sample {
+
+        private final SampleStack stack;
+        private final int depth;
+        private final long startNanos;
+        private final long startBytes;
+        private boolean ended;
+
+        Sample() {
+            this.stack = samples.get();
+            this.depth = this.stack.push();
+            this.startBytes = allocatedBytes();
+            this.startNanos = System.nanoTime();
+        }
+
+        /**
+         * Ends the sample, doing nothing if it was already ended.
+         *
+         * @param stage The measured stage
+         * @param eventClass The event class
+         * @param owner The owning mod or plugin, if any
+         */
+        public void end(Stage stage, Class<?> eventClass, @Nullable Object owner) {
+            if (this.ended) {
+                return;
+            }
+            this.ended = true;
+            final long nanos = System.nanoTime() - this.startNanos;
+            final long bytes = allocatedBytes() - this.startBytes;
+            final Counter counter = counters.computeIfAbsent(new Key(stage, eventClass, owner == null ? NO_OWNER : owner.toString()),
+                key -> new Counter());
+            counter.count.increment();
+            counter.nanos.add(nanos - this.stack.childNanos[this.depth]);
+            counter.bytes.add(bytes - this.stack.childBytes[this.depth]);
+            this.stack.pop(this.depth, nanos, bytes);
+        }
+    }
+
+    /**
+     * The open samples of a thread, holding the total time and allocations
+     * of the samples directly nested in each of them.
+     */
+    private static final class SampleStack {
+
+        long[] childNanos = new long[8];
+        long[] childBytes = new long[8];
+        private int size;
+
+        int push() {
+            if (this.size == this.childNanos.length) {
+                this.childNanos = Arrays.copyOf(this.childNanos, this.size * 2);
+                this.childBytes = Arrays.copyOf(this.childBytes, this.size * 2);
+            }
+            this.childNanos[this.size] = 0;
+            this.childBytes[this.size] = 0;
+            return this.size++;
+        }
+
+        void pop(int depth, long nanos, long bytes) {
+            // Also drops samples nested in this one that were never ended
+            this.size = depth;
+            if (depth > 0) {
+                this.childNanos[depth - 1] += nanos;
+                this.childBytes[depth - 1] += bytes;
+            }
+        }
+    }
+
+    private static final class Key {
+
+        final Stage stage;
+        final Class<?> eventClass;
+        final String owner;
+
+        Key(Stage stage, Class<?> eventClass, String owner) {
+            this.stage = stage;
+            this.eventClass = eventClass;
+            this.owner = owner;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            final Key other = (Key) o;
+            return this.stage == other.stage && this.eventClass == other.eventClass && this.owner.equals(other.owner);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(this.stage, this.eventClass, this.owner);
+        }
+    }
+
+    private static final class Counter {
+
+        final LongAdder count = new LongAdder();
+        final LongAdder nanos = new LongAdder();
+        final LongAdder bytes = new LongAdder();
+    }
+}
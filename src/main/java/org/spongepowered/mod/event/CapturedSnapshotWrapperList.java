@@ -43,9 +43,13 @@
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.ListIterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.UUID;
 
 import javax.annotation.Nullable;
@@ -72,11 +76,18 @@ private static SpongeBlockSnapshot toSponge(BlockSnapshot blockSnapshot) {
         return sponge;
     }
 
-    private static BlockSnapshot toForge(SpongeBlockSnapshot spongeSnapshot) {
+    private BlockSnapshot toForge(SpongeBlockSnapshot spongeSnapshot) {
         final UUID worldUniqueId = spongeSnapshot.getWorldUniqueId();
-        final org.spongepowered.api.world.World spongeWorld = Sponge.getServer().getWorld(worldUniqueId)
-            .orElseThrow(() -> new IllegalStateException("World with uuid: " + worldUniqueId + " not registered for snapshot:" + spongeSnapshot));
-        final World mcWorld = (World) spongeWorld;
+        if (this.worldUniqueId == null) {
+            this.worldUniqueId = ((org.spongepowered.api.world.World) this.worldPointer).getUniqueId();
+        }
+        final World mcWorld;
+        if (worldUniqueId.equals(this.worldUniqueId)) {
+            mcWorld = this.worldPointer;
+        } else {
+            mcWorld = (World) Sponge.getServer().getWorld(worldUniqueId)
+                .orElseThrow(() -> new IllegalStateException("World with uuid: " + worldUniqueId + " not registered for snapshot:" + spongeSnapshot));
+        }
         final BlockPos blockPos = VecHelper.toBlockPos(spongeSnapshot.getPosition());
         final IBlockState blockState = (IBlockState) spongeSnapshot.getState();
         final NBTTagCompound nbtTagCompound = spongeSnapshot.getCompound().orElse(null);
@@ -84,9 +95,14 @@ private static BlockSnapshot toForge(SpongeBlockSnapshot spongeSnapshot) {
     }
 
     private final World worldPointer;
+    @Nullable private UUID worldUniqueId;
     private List<SpongeBlockSnapshot> wrappedList = new ArrayList<>();
 
-    @Nullable private List<BlockSnapshot> cachedSnapshots;
+    // The Forge view is kept in step with the Sponge list it mirrors, only
+    // translating the snapshots that changed since it was last looked at.
+    @Nullable private List<SpongeBlockSnapshot> mirroredList;
+    private final List<SpongeBlockSnapshot> mirroredSnapshots = new ArrayList<>();
+    private final List<BlockSnapshot> cachedSnapshots = new ArrayList<>();
 
     public CapturedSnapshotWrapperList(World world) {
         this.worldPointer = world;
@@ -121,25 +137,45 @@ public boolean contains(Object o) {
     }
 
     private List<BlockSnapshot> getCachedForgeList() {
-        populateCachedList();
-        return this.cachedSnapshots;
-    }
-
-    private void populateCachedList() {
         final List<SpongeBlockSnapshot> underlying = getUnderlyingList();
-        if (underlying.isEmpty()) {
-            this.cachedSnapshots = new ArrayList<>();
+        if (underlying != this.mirroredList) {
+            this.mirroredList = underlying;
+            this.mirroredSnapshots.clear();
+            this.cachedSnapshots.clear();
+        }
+        final int mirroredSize = this.mirroredSnapshots.size();
+        int unchanged = mirroredSize;
+        // Snapshots are usually only appended, which leaves the last mirrored one in place
+        if (underlying.size() < mirroredSize
+            || mirroredSize > 0 && underlying.get(mirroredSize - 1) != this.mirroredSnapshots.get(mirroredSize - 1)) {
+            unchanged = 0;
+            final int limit = Math.min(underlying.size(), mirroredSize);
+            while (unchanged < limit && underlying.get(unchanged) == this.mirroredSnapshots.get(unchanged)) {
+                unchanged++;
+            }
+        }
+        Map<SpongeBlockSnapshot, BlockSnapshot> dropped = Collections.emptyMap();
+        if (unchanged < mirroredSize) {
+            // Keep the translations of snapshots that are only shifted
+            dropped = new IdentityHashMap<>();
+            for (int i = unchanged; i < mirroredSize; i++) {
+                dropped.put(this.mirroredSnapshots.get(i), this.cachedSnapshots.get(i));
+            }
+            this.mirroredSnapshots.subList(unchanged, mirroredSize).clear();
+            this.cachedSnapshots.subList(unchanged, mirroredSize).clear();
         }
-        this.cachedSnapshots = new ArrayList<>(underlying.size());
-        for (SpongeBlockSnapshot spongeSnapshot : underlying) {
-            final BlockSnapshot forgeSnapshot = toForge(spongeSnapshot);
-            this.cachedSnapshots.add(forgeSnapshot);
+        for (int i = unchanged; i < underlying.size(); i++) {
+            final SpongeBlockSnapshot spongeSnapshot = underlying.get(i);
+            @Nullable final BlockSnapshot forgeSnapshot = dropped.get(spongeSnapshot);
+            this.mirroredSnapshots.add(spongeSnapshot);
+            this.cachedSnapshots.add(forgeSnapshot == null ? toForge(spongeSnapshot) : forgeSnapshot);
         }
+        return this.cachedSnapshots;
     }
 
     @Override
     public Iterator<BlockSnapshot> iterator() {
-        return getCachedForgeList().iterator();
+        return new Itr();
     }
 
     @Override
@@ -156,9 +192,13 @@ public <T> T[] toArray(T[] a) {
     public boolean add(BlockSnapshot blockSnapshot) {
         final List<SpongeBlockSnapshot> underlyingList = getUnderlyingList();
         final List<BlockSnapshot> cachedForgeList = getCachedForgeList();
-        cachedForgeList.add(blockSnapshot);
         final SpongeBlockSnapshot sponge = toSponge(blockSnapshot);
-        return underlyingList.add(sponge);
+        final boolean added = underlyingList.add(sponge);
+        if (added) {
+            this.mirroredSnapshots.add(sponge);
+            cachedForgeList.add(blockSnapshot);
+        }
+        return added;
     }
 
     @SuppressWarnings({"unchecked", "rawtypes"})
@@ -168,13 +208,15 @@ public boolean remove(Object o) {
             return false;
         }
         final BlockSnapshot forgeSnapshot = (BlockSnapshot) o;
-        final SpongeBlockSnapshot spongeSnapshot = toSponge(forgeSnapshot);
-        final List<SpongeBlockSnapshot> underlyingList = getUnderlyingList();
-        final List<BlockSnapshot> cachedForgeList = getCachedForgeList();
-        cachedForgeList.remove(forgeSnapshot);
+        final int index = getCachedForgeList().indexOf(forgeSnapshot);
+        final SpongeBlockSnapshot spongeSnapshot = index == -1 ? toSponge(forgeSnapshot) : this.mirroredSnapshots.get(index);
         final PhaseContext<?> data = PhaseTracker.getInstance().getCurrentContext();
         if (((IPhaseState) data.state).doesBulkBlockCapture(data)) {
+            final int size = this.mirroredSnapshots.size();
             data.getCapturedBlockSupplier().prune(spongeSnapshot);
+            if (index != -1) {
+                forgetRemoved(index, size);
+            }
             return true;
         }
         return false;
@@ -203,15 +245,14 @@ public boolean removeAll(Collection<?> c) {
 
     @Override
     public boolean retainAll(Collection<?> c) {
-        return getCachedForgeList().retainAll(c);
+        return new ArrayList<>(getCachedForgeList()).retainAll(c);
     }
 
     @Override
     public void clear() {
-        if (this.cachedSnapshots != null) {
-            this.cachedSnapshots.clear();
-            this.cachedSnapshots = null;
-        }
+        this.mirroredList = null;
+        this.mirroredSnapshots.clear();
+        this.cachedSnapshots.clear();
         if (this.wrappedList != null) {
             this.wrappedList.clear();
         }
@@ -231,16 +272,17 @@ public BlockSnapshot set(int index, BlockSnapshot element) {
     public void add(int index, BlockSnapshot element) {
         final List<SpongeBlockSnapshot> underlyingList = getUnderlyingList();
         final List<BlockSnapshot> forgeList = getCachedForgeList();
-        forgeList.add(index, element);
         final SpongeBlockSnapshot sponge = toSponge(element);
         underlyingList.add(index, sponge);
+        this.mirroredSnapshots.add(index, sponge);
+        forgeList.add(index, element);
     }
 
     @SuppressWarnings({"unchecked", "rawtypes"})
     @Override
     public BlockSnapshot remove(int index) {
-        final List<BlockSnapshot> cachedForgeList = getCachedForgeList();
-        final BlockSnapshot remove = cachedForgeList.remove(index);
+        final BlockSnapshot remove = getCachedForgeList().get(index);
+        final int size = this.mirroredSnapshots.size();
         try {
             final PhaseContext<?> data = PhaseTracker.getInstance().getCurrentContext();
             if (((IPhaseState) data.state).doesBulkBlockCapture(data)) {
@@ -255,9 +297,29 @@ public BlockSnapshot remove(int index) {
         } catch (IndexOutOfBoundsException e) {
             // something's fucky....
         }
+        forgetRemoved(index, size);
         return remove;
     }
 
+    /**
+     * Drops the snapshot at the given index from the Forge view if it was
+     * the one removed from the captured snapshots. Anything else leaves the
+     * view to catch up the next time it's used.
+     */
+    private void forgetRemoved(int index, int size) {
+        final List<SpongeBlockSnapshot> underlying = getUnderlyingList();
+        if (underlying != this.mirroredList || underlying.size() != size - 1) {
+            return;
+        }
+        this.mirroredSnapshots.remove(index);
+        this.cachedSnapshots.remove(index);
+        // An equal snapshot elsewhere may have been pruned instead, which shifts one of the neighbours
+        if (index > 0 && underlying.get(index - 1) != this.mirroredSnapshots.get(index - 1)
+            || index < underlying.size() && underlying.get(index) != this.mirroredSnapshots.get(index)) {
+            this.mirroredList = null;
+        }
+    }
+
     @Override
     public int indexOf(Object o) {
         return getCachedForgeList().indexOf(o);
@@ -270,16 +332,55 @@ public int lastIndexOf(Object o) {
 
     @Override
     public ListIterator<BlockSnapshot> listIterator() {
-        return getCachedForgeList().listIterator();
+        return new ArrayList<>(getCachedForgeList()).listIterator();
     }
 
     @Override
     public ListIterator<BlockSnapshot> listIterator(int index) {
-        return getCachedForgeList().listIterator(index);
+        return new ArrayList<>(getCachedForgeList()).listIterator(index);
     }
 
     @Override
     public List<BlockSnapshot> subList(int fromIndex, int toIndex) {
-        return getCachedForgeList().subList(fromIndex, toIndex);
+        return new ArrayList<>(getCachedForgeList().subList(fromIndex, toIndex));
+    }
+
+    /**
+     * Iterates the Forge view, removing from the captured snapshots through
+     * {@link #remove(int)}.
+     */
+    private final class Itr implements Iterator<BlockSnapshot> {
+
+        private int cursor;
+        private int lastReturned = -1;
+
+        @Override
+        public boolean hasNext() {
+            return this.cursor < getCachedForgeList().size();
+        }
+
+        @Override
+        public BlockSnapshot next() {
+            final List<BlockSnapshot> forgeList = getCachedForgeList();
+            if (this.cursor >= forgeList.size()) {
+                throw new NoSuchElementException();
+            }
+            this.lastReturned = this.cursor++;
+            return forgeList.get(this.lastReturned);
+        }
+
+        @Override
+        public void remove() {
+            if (this.lastReturned == -1) {
+                throw new IllegalStateException();
+            }
+            final int size = size();
+            CapturedSnapshotWrapperList.this.remove(this.lastReturned);
+            // Only step back when the snapshot is actually gone, it's skipped otherwise
+            if (size() < size) {
+                this.cursor = this.lastReturned;
+            }
+            this.lastReturned = -1;
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,127 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.mod.event;
+
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import org.spongepowered.api.Sponge;
+import org.spongepowered.api.event.EventManager;
+import org.spongepowered.api.event.cause.Cause;
+import org.spongepowered.common.bridge.world.WorldServerBridge;
+import org.spongepowered.common.event.ShouldFire;
+import org.spongepowered.common.event.SpongeCommonEventFactory;
+import org.spongepowered.mod.util.OptimizationFlags;
+
+import java.lang.ref.WeakReference;
+
+import javax.annotation.Nullable;
+
+/**
+ * Fires the {@code ChangeBlockEvent.Pre} checks of Forge fluid flow, which
+ * are skipped entirely while nothing listens for the event. With
+ * {@link OptimizationFlags#COALESCE_FLUID_EVENTS} the outcome for a position
+ * is remembered for as long as the cause stays the same, since a ticking
+ * fluid block asks about the same few positions more than once. A new cause,
+ * world tick or change of the registered listeners starts over.
+ */
+public final class FluidFlowEvents {
+
+    /**
+     * A fluid block checks itself and its direct neighbours, positions past
+     * this many are not remembered.
+     */
+    private static final int MAX_CACHED_POSITIONS = 8;
+
+    private static final long[] cachedPositions = new long[MAX_CACHED_POSITIONS];
+    private static final boolean[] cachedOutcomes = new boolean[MAX_CACHED_POSITIONS];
+    private static int cachedCount;
+    @Nullable private static WeakReference<World> cachedWorld;
+    private static long cachedTick;
+    @Nullable private static WeakReference<Cause> cachedCause;
+    private static int cachedListenerGeneration;
+
+    /**
+     * Gets whether a fluid may not flow into or update the given position.
+     * Must be called from the server thread.
+     *
+     * @param world The world
+     * @param pos The position
+     * @return True if the pre event was cancelled
+     */
+    public static boolean isPreCancelled(final World world, final BlockPos pos) {
+        if (!ShouldFire.CHANGE_BLOCK_EVENT_PRE) {
+            return false;
+        }
+        if (!OptimizationFlags.COALESCE_FLUID_EVENTS) {
+            return SpongeCommonEventFactory.callChangeBlockEventPre((WorldServerBridge) world, pos).isCancelled();
+        }
+        final long tick = world.getTotalWorldTime();
+        final Cause cause = Sponge.getCauseStackManager().getCurrentCause();
+        final int listenerGeneration = getListenerGeneration();
+        if (cachedTick != tick || cachedListenerGeneration != listenerGeneration) {
+            cachedCount = 0;
+            cachedTick = tick;
+            cachedListenerGeneration = listenerGeneration;
+        }
+        if (cachedWorld == null || cachedWorld.get() != world) {
+            cachedCount = 0;
+            cachedWorld = new WeakReference<>(world);
+        }
+        if (!isCachedCause(cause)) {
+            cachedCount = 0;
+            cachedCause = new WeakReference<>(cause);
+        }
+
+        final long key = pos.toLong();
+        for (int i = 0; i < cachedCount; i++) {
+            if (cachedPositions[i] == key) {
+                return cachedOutcomes[i];
+            }
+        }
+        final boolean cancelled = SpongeCommonEventFactory.callChangeBlockEventPre((WorldServerBridge) world, pos).isCancelled();
+        if (cachedCount < MAX_CACHED_POSITIONS) {
+            cachedPositions[cachedCount] = key;
+            cachedOutcomes[cachedCount] = cancelled;
+            cachedCount++;
+        }
+        return cancelled;
+    }
+
+    private static boolean isCachedCause(final Cause cause) {
+        @Nullable final Cause cached = cachedCause == null ? null : cachedCause.get();
+        if (cached == cause) {
+            return true;
+        }
+        return cached != null && cause.equals(cached);
+    }
+
+    private static int getListenerGeneration() {
+        final EventManager eventManager = Sponge.getEventManager();
+        return eventManager instanceof SpongeModEventManager ? ((SpongeModEventManager) eventManager).getListenerGeneration() : 0;
+    }
+
+    private FluidFlowEvents() {
+    }
+}
@@ -0,0 +1,179 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.mod.event;
+
+import net.minecraftforge.event.AttachCapabilitiesEvent;
+import net.minecraftforge.event.entity.EntityEvent;
+import net.minecraftforge.event.entity.living.LivingDropsEvent;
+import net.minecraftforge.event.world.GetCollisionBoxesEvent;
+import net.minecraftforge.event.world.WorldEvent;
+import net.minecraftforge.fluids.FluidRegistry;
+import net.minecraftforge.fml.common.eventhandler.Event;
+import net.minecraftforge.fml.common.gameevent.TickEvent;
+import net.minecraftforge.fml.relauncher.Side;
+import net.minecraftforge.oredict.OreDictionary;
+import org.spongepowered.common.SpongeImplHooks;
+import org.spongepowered.common.event.RegisteredListener;
+
+import javax.annotation.Nullable;
+
+/**
+ * The verdict on how a Forge event class is bridged to Sponge, computed once
+ * per event class so that posting an event which has nothing to bridge only
+ * costs a lookup and a branch.
+ *
+ * <p>The Sponge listener caches of the mapped event classes are refreshed
+ * lazily whenever the listener generation of the {@link SpongeModEventManager}
+ * changes. Verdicts are only consulted on the main thread.</p>
+ */
+public final class ForgeEventVerdict {
+
+    private static final ClassValue<ForgeEventVerdict> verdicts = new ClassValue<ForgeEventVerdict>() {
+        @SuppressWarnings("unchecked")
+        @Override
+        protected ForgeEventVerdict computeValue(Class<?> type) {
+            return new ForgeEventVerdict((Class<? extends Event>) type);
+        }
+    };
+
+    public static ForgeEventVerdict of(Event event) {
+        return verdicts.get(event.getClass());
+    }
+
+    private final boolean ignored;
+    private final boolean tickEvent;
+    private final boolean allowed;
+    private final Class<? extends org.spongepowered.api.event.Event>[] spongeClasses;
+    private final RegisteredListener.Cache[] listenerCaches;
+    @Nullable private Boolean clientEvent;
+    private int listenerGeneration = -1;
+    private boolean hasSpongeListeners;
+
+    private ForgeEventVerdict(Class<? extends Event> eventClass) {
+        this.ignored = isIgnoredClass(eventClass);
+        this.tickEvent = TickEvent.class.isAssignableFrom(eventClass);
+        this.allowed = isAllowedClass(eventClass);
+        this.spongeClasses = ForgeToSpongeEventFactory.getSpongeClasses(eventClass);
+        this.listenerCaches = new RegisteredListener.Cache[this.spongeClasses.length];
+    }
+
+    private static boolean isIgnoredClass(Class<? extends Event> eventClass) {
+        return EntityEvent.CanUpdate.class.isAssignableFrom(eventClass)
+            || GetCollisionBoxesEvent.class.isAssignableFrom(eventClass)
+            || AttachCapabilitiesEvent.class.isAssignableFrom(eventClass)
+            || OreDictionary.OreRegisterEvent.class.isAssignableFrom(eventClass)
+            || FluidRegistry.FluidRegisterEvent.class.isAssignableFrom(eventClass);
+    }
+
+    // Events that should not be posted on the event bus
+    private static boolean isAllowedClass(Class<? extends Event> eventClass) {
+        return !LivingDropsEvent.class.isAssignableFrom(eventClass)
+            && !WorldEvent.Save.class.isAssignableFrom(eventClass)
+            && !WorldEvent.Unload.class.isAssignableFrom(eventClass);
+    }
+
+    public boolean isIgnored(Event event) {
+        if (this.ignored) {
+            return true;
+        }
+        if (this.tickEvent && ((TickEvent) event).side == Side.CLIENT) {
+            return true;
+        }
+        if (this.clientEvent == null) {
+            // Client events are determined by an annotation lookup on the event class
+            this.clientEvent = SpongeImplHooks.isEventClientEvent(event);
+        }
+        return this.clientEvent;
+    }
+
+    public boolean isAllowed() {
+        return this.allowed;
+    }
+
+    /**
+     * Gets whether any Sponge listener exists for the event classes this
+     * Forge event class may be bridged to.
+     *
+     * @param manager The event manager
+     * @return True if there is at least one Sponge listener
+     */
+    public boolean hasSpongeListeners(SpongeModEventManager manager) {
+        refresh(manager);
+        return this.hasSpongeListeners;
+    }
+
+    /**
+     * Gets the Sponge listeners the given event has to be bridged to, which
+     * is the decision {@code EventBus#post} takes for every event that is
+     * neither ignored nor disallowed.
+     *
+     * @param event The event, which must be of the class of this verdict
+     * @param manager The event manager
+     * @return The listener cache, or null if the event is only posted to Forge listeners
+     */
+    @Nullable
+    public RegisteredListener.Cache getBridgedListeners(Event event, SpongeModEventManager manager) {
+        if (!hasSpongeListeners(manager)) {
+            return null;
+        }
+        final Class<? extends org.spongepowered.api.event.Event> spongeClass = ForgeToSpongeEventFactory.getSpongeClass(event);
+        if (spongeClass == null) {
+            return null;
+        }
+        final RegisteredListener.Cache listenerCache = getListenerCache(manager, spongeClass);
+        return listenerCache.getListeners().isEmpty() ? null : listenerCache;
+    }
+
+    /**
+     * Gets the listener cache of the given Sponge event class.
+     *
+     * @param manager The event manager
+     * @param spongeClass The sponge event class the event is bridged to
+     * @return The listener cache
+     */
+    public RegisteredListener.Cache getListenerCache(SpongeModEventManager manager, Class<? extends org.spongepowered.api.event.Event> spongeClass) {
+        refresh(manager);
+        for (int i = 0; i < this.spongeClasses.length; i++) {
+            if (this.spongeClasses[i] == spongeClass) {
+                return this.listenerCaches[i];
+            }
+        }
+        return manager.getHandlerCache(spongeClass);
+    }
+
+    private void refresh(SpongeModEventManager manager) {
+        final int generation = manager.getListenerGeneration();
+        if (this.listenerGeneration == generation) {
+            return;
+        }
+        boolean hasListeners = false;
+        for (int i = 0; i < this.spongeClasses.length; i++) {
+            this.listenerCaches[i] = manager.getHandlerCache(this.spongeClasses[i]);
+            hasListeners |= !this.listenerCaches[i].getListeners().isEmpty();
+        }
+        this.hasSpongeListeners = hasListeners;
+        this.listenerGeneration = generation;
+    }
+}
@@ -26,7 +26,6 @@
 
 import com.flowpowered.math.vector.Vector3d;
 import com.google.common.collect.ImmutableList;
-import com.google.common.collect.ImmutableMap;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.entity.player.EntityPlayerMP;
@@ -92,55 +91,101 @@
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Function;
+
+import javax.annotation.Nullable;
 
 /**
  * Handles events initiated by Forge mods.
  * It is primarily responsible for firing a corresponding Sponge event to plugins.
  */
-@SuppressWarnings({"deprecation", "Duplicates"})
+@SuppressWarnings({"deprecation", "Duplicates", "unchecked"})
 public class ForgeToSpongeEventFactory {
 
-    private static final SpongeModEventManager eventManager = ((SpongeModEventManager) Sponge.getEventManager());
-    private static final ImmutableMap<Class<? extends net.minecraftforge.fml.common.eventhandler.Event>, Class<? extends Event>>
-    forgeToSpongeClassMap = new ImmutableMap.Builder<Class<? extends net.minecraftforge.fml.common.eventhandler.Event>, Class<? extends Event>>()
-        .put(BlockEvent.BreakEvent.class, ChangeBlockEvent.Pre.class)
-        .put(BlockEvent.MultiPlaceEvent.class, ChangeBlockEvent.Place.class)
-        .put(BlockEvent.PlaceEvent.class, ChangeBlockEvent.Place.class)
-        .put(net.minecraftforge.event.world.ExplosionEvent.Start.class, ExplosionEvent.Pre.class)
-        .put(net.minecraftforge.event.world.ExplosionEvent.Detonate.class, ExplosionEvent.Detonate.class)
-        .put(PlayerInteractEvent.LeftClickBlock.class, InteractBlockEvent.Primary.class)
-        .put(PlayerInteractEvent.RightClickBlock.class, InteractBlockEvent.Secondary.class)
-        .put(PlayerInteractEvent.RightClickItem.class, InteractItemEvent.Secondary.class)
-        .put(PlayerSleepInBedEvent.class, SleepingEvent.Pre.class)
-        .put(ServerChatEvent.class, MessageChannelEvent.Chat.class)
-        .build();
+    /**
+     * The registered converters, in the order they should be matched against
+     * a Forge event class. More specific event classes must be registered
+     * before their super classes.
+     */
+    private static final List<SpongeEventConverter> converters = new ArrayList<>();
+    private static final SpongeEventConverter NO_CONVERTER = new SpongeEventConverter(net.minecraftforge.fml.common.eventhandler.Event.class,
+        new Class[0], event -> null, (frame, eventData) -> null);
 
-    public static Class<? extends Event> getSpongeClass(net.minecraftforge.fml.common.eventhandler.Event event) {
-        // Handle special cases
-        if (event instanceof PlayerInteractEvent) {
-            if (event instanceof PlayerInteractEvent.LeftClickBlock) {
-                final PlayerInteractEvent.LeftClickBlock forgeEvent = (PlayerInteractEvent.LeftClickBlock) event;
-                if (forgeEvent.getHand() == EnumHand.MAIN_HAND) {
-                    return InteractBlockEvent.Primary.MainHand.class;
-                }
-                return InteractBlockEvent.Primary.OffHand.class;
-            }
-            if (event instanceof PlayerInteractEvent.RightClickBlock) {
-                final PlayerInteractEvent.RightClickBlock forgeEvent = (PlayerInteractEvent.RightClickBlock) event;
-                if (forgeEvent.getHand() == EnumHand.MAIN_HAND) {
-                    return InteractBlockEvent.Secondary.MainHand.class;
-                }
-                return InteractBlockEvent.Secondary.OffHand.class;
-            }
-            if (event instanceof PlayerInteractEvent.RightClickItem) {
-                final PlayerInteractEvent.RightClickItem forgeEvent = (PlayerInteractEvent.RightClickItem) event;
-                if (forgeEvent.getHand() == EnumHand.MAIN_HAND) {
-                    return InteractItemEvent.Secondary.MainHand.class;
+    /**
+     * Resolves the converter of a concrete Forge event class once, after which
+     * dispatching an event is a single lookup regardless of how many converters
+     * are registered.
+     */
+    private static final ClassValue<SpongeEventConverter> converterByClass = new ClassValue<SpongeEventConverter>() {
+        @Override
+        protected SpongeEventConverter computeValue(Class<?> type) {
+            for (SpongeEventConverter converter : converters) {
+                if (converter.forgeClass.isAssignableFrom(type)) {
+                    return converter;
                 }
-                return InteractItemEvent.Secondary.OffHand.class;
             }
-        }
-        return forgeToSpongeClassMap.get(event.getClass());
+            return NO_CONVERTER;
+        }
+    };
+
+    static {
+        registerConverter(BlockEvent.MultiPlaceEvent.class, ChangeBlockEvent.Place.class,
+            ForgeToSpongeEventFactory::createAndPostChangeBlockEventPlaceMulti);
+        registerConverter(BlockEvent.PlaceEvent.class, ChangeBlockEvent.Place.class, ForgeToSpongeEventFactory::createAndPostChangeBlockEventPlace);
+        registerConverter(BlockEvent.BreakEvent.class, ChangeBlockEvent.Pre.class, ForgeToSpongeEventFactory::createAndPostChangeBlockEventPre);
+        registerConverter(ServerChatEvent.class, MessageChannelEvent.Chat.class, ForgeToSpongeEventFactory::createAndPostMessageChannelEventChat);
+        registerConverter(PlayerSleepInBedEvent.class, SleepingEvent.Pre.class, ForgeToSpongeEventFactory::createAndPostSleepingEventPre);
+        registerHandConverter(PlayerInteractEvent.LeftClickBlock.class, InteractBlockEvent.Primary.MainHand.class,
+            InteractBlockEvent.Primary.OffHand.class, ForgeToSpongeEventFactory::createAndPostInteractBlockPrimaryEvent);
+        registerHandConverter(PlayerInteractEvent.RightClickBlock.class, InteractBlockEvent.Secondary.MainHand.class,
+            InteractBlockEvent.Secondary.OffHand.class, ForgeToSpongeEventFactory::createAndPostInteractBlockSecondaryEvent);
+        registerHandConverter(PlayerInteractEvent.RightClickItem.class, InteractItemEvent.Secondary.MainHand.class,
+            InteractItemEvent.Secondary.OffHand.class, ForgeToSpongeEventFactory::createAndPostInteractItemSecondaryEvent);
+        registerConverter(net.minecraftforge.event.world.ExplosionEvent.Start.class, ExplosionEvent.Pre.class,
+            ForgeToSpongeEventFactory::createAndPostExplosionEventPre);
+        registerConverter(net.minecraftforge.event.world.ExplosionEvent.Detonate.class, ExplosionEvent.Detonate.class,
+            ForgeToSpongeEventFactory::createAndPostExplosionEventDetonate);
+    }
+
+    /**
+     * Registers a converter for a Forge event that always maps to the same Sponge event class.
+     *
+     * <p>Only the exact Forge event class is reported by {@link #getSpongeClass}, mod
+     * provided subclasses are not bridged.</p>
+     */
+    private static void registerConverter(Class<? extends net.minecraftforge.fml.common.eventhandler.Event> forgeClass,
+        Class<? extends Event> spongeClass, SpongeEventPoster poster) {
+        converters.add(new SpongeEventConverter(forgeClass, new Class[] {spongeClass},
+            event -> event.getClass() == forgeClass ? spongeClass : null, poster));
+    }
+
+    /**
+     * Registers a converter for a {@link PlayerInteractEvent} whose Sponge event class depends on the hand used.
+     */
+    private static void registerHandConverter(Class<? extends PlayerInteractEvent> forgeClass, Class<? extends Event> mainHandClass,
+        Class<? extends Event> offHandClass, SpongeEventPoster poster) {
+        converters.add(new SpongeEventConverter(forgeClass, new Class[] {mainHandClass, offHandClass},
+            event -> ((PlayerInteractEvent) event).getHand() == EnumHand.MAIN_HAND ? mainHandClass : offHandClass, poster));
+    }
+
+    public static Class<? extends Event> getSpongeClass(net.minecraftforge.fml.common.eventhandler.Event event) {
+        return converterByClass.get(event.getClass()).spongeClassResolver.apply(event);
+    }
+
+    /**
+     * Gets every Sponge event class that an event of the given Forge event
+     * class may be bridged to.
+     *
+     * @param forgeClass The forge event class
+     * @return The possible sponge event classes, empty if it is not bridged
+     */
+    public static Class<? extends Event>[] getSpongeClasses(Class<? extends net.minecraftforge.fml.common.eventhandler.Event> forgeClass) {
+        return converterByClass.get(forgeClass).spongeClasses;
+    }
+
+    // Not kept in a field, so the converters can be looked up before Sponge is initialized
+    private static SpongeModEventManager getEventManager() {
+        return (SpongeModEventManager) Sponge.getEventManager();
     }
 
     private static Tristate getTristateFromResult(Result result) {
@@ -163,40 +208,7 @@ private static Tristate getTristateFromResult(Result result) {
      */
     @SuppressWarnings("deprecation")
     static Event createAndPostSpongeEvent(CauseStackManager.StackFrame frame, ForgeToSpongeEventData eventData) {
-        final net.minecraftforge.fml.common.eventhandler.Event forgeEvent = eventData.getForgeEvent();
-        if (forgeEvent instanceof BlockEvent.MultiPlaceEvent) {
-            return createAndPostChangeBlockEventPlaceMulti(frame, eventData);
-        }
-        if (forgeEvent instanceof BlockEvent.PlaceEvent) {
-            return createAndPostChangeBlockEventPlace(frame, eventData);
-        }
-        if (forgeEvent instanceof BlockEvent.BreakEvent) {
-            return createAndPostChangeBlockEventPre(frame, eventData);
-        }
-        if (forgeEvent instanceof ServerChatEvent) {
-            return createAndPostMessageChannelEventChat(frame, eventData);
-        }
-        if (forgeEvent instanceof PlayerSleepInBedEvent) {
-            return createAndPostSleepingEventPre(frame, eventData);
-        }
-        if (forgeEvent instanceof PlayerInteractEvent) {
-            if (forgeEvent instanceof PlayerInteractEvent.LeftClickBlock) {
-                return createAndPostInteractBlockPrimaryEvent(frame, eventData);
-            }
-            if (forgeEvent instanceof PlayerInteractEvent.RightClickBlock) {
-                return createAndPostInteractBlockSecondaryEvent(frame, eventData);
-            }
-            if (forgeEvent instanceof PlayerInteractEvent.RightClickItem) {
-                return createAndPostInteractItemSecondaryEvent(frame, eventData);
-            }
-        }
-        if (forgeEvent instanceof net.minecraftforge.event.world.ExplosionEvent.Start) {
-            return createAndPostExplosionEventPre(frame, eventData);
-        }
-        if (forgeEvent instanceof net.minecraftforge.event.world.ExplosionEvent.Detonate) {
-            return createAndPostExplosionEventDetonate(frame, eventData);
-        }
-        return null;
+        return converterByClass.get(eventData.getForgeEvent().getClass()).poster.createAndPost(frame, eventData);
     }
 
     private static ExplosionEvent.Pre createAndPostExplosionEventPre(CauseStackManager.StackFrame frame,
@@ -205,7 +217,7 @@ private static ExplosionEvent.Pre createAndPostExplosionEventPre(CauseStackManag
 
         ExplosionEvent.Pre spongeEvent = SpongeEventFactory.createExplosionEventPre(frame.getCurrentCause(), (Explosion) forgeEvent.getExplosion(), (World) forgeEvent.getWorld());
         eventData.setSpongeEvent(spongeEvent);
-        eventManager.postEvent(eventData);
+        getEventManager().postEvent(eventData);
 
         // TODO - the Forge event doesn't allowing setting the explosion, but the Sponge event does
         // For now, we have no choice but to ignore explosion replacement in the Sponge event.
@@ -227,7 +239,7 @@ private static ExplosionEvent.Detonate createAndPostExplosionEventDetonate(Cause
 
         spongeEvent = SpongeEventFactory.createExplosionEventDetonate(frame.getCurrentCause(), blockPositions, entities, (org.spongepowered.api.world.explosion.Explosion) forgeEvent.getExplosion(), (World) forgeEvent.getWorld());
         eventData.setSpongeEvent(spongeEvent);
-        eventManager.postEvent(eventData);
+        getEventManager().postEvent(eventData);
         if (spongeEvent.isCancelled()) {
             forgeEvent.getAffectedBlocks().clear();
             forgeEvent.getAffectedEntities().clear();
@@ -277,7 +289,7 @@ private static ChangeBlockEvent.Pre createAndPostChangeBlockEventPre(CauseStackM
         final ChangeBlockEvent.Pre spongeEvent = SpongeEventFactory.createChangeBlockEventPre(frame.getCurrentCause(),
             ImmutableList.of(new Location<>((World) world, pos.getX(), pos.getY(), pos.getZ())));
         eventData.setSpongeEvent(spongeEvent);
-        eventManager.postEvent(eventData);
+        getEventManager().postEvent(eventData);
         return spongeEvent;
     }
 
@@ -312,7 +324,7 @@ private static ChangeBlockEvent.Place createAndPostChangeBlockEventPlace(CauseSt
         frame.addContext(EventContextKeys.PLAYER_PLACE, (World) world);
         final ChangeBlockEvent.Place spongeEvent = SpongeEventFactory.createChangeBlockEventPlace(frame.getCurrentCause(), blockSnapshots);
         eventData.setSpongeEvent(spongeEvent);
-        eventManager.postEvent(eventData);
+        getEventManager().postEvent(eventData);
         return spongeEvent;
     }
 
@@ -348,7 +360,7 @@ private static ChangeBlockEvent.Place createAndPostChangeBlockEventPlaceMulti(Ca
 
         final ChangeBlockEvent.Place spongeEvent = SpongeEventFactory.createChangeBlockEventPlace(frame.getCurrentCause(), builder.build());
         eventData.setSpongeEvent(spongeEvent);
-        eventManager.postEvent(eventData);
+        getEventManager().postEvent(eventData);
         return spongeEvent;
     }
 
@@ -376,7 +388,7 @@ private static MessageChannelEvent.Chat createAndPostMessageChannelEventChat(Cau
         final MessageChannelEvent.Chat spongeEvent = SpongeEventFactory.createMessageChannelEventChat(frame.getCurrentCause(),
             originalChannel, Optional.ofNullable(channel), formatter, rawSpongeMessage, false);
         eventData.setSpongeEvent(spongeEvent);
-        eventManager.postEvent(eventData);
+        getEventManager().postEvent(eventData);
         final ITextComponent spongeComponent = SpongeTexts.toComponent(spongeEvent.getMessage());
         if (!spongeComponent.equals(forgeEvent.getComponent())) {
             forgeEvent.setComponent(spongeComponent);
@@ -398,7 +410,7 @@ private static SleepingEvent.Pre createAndPostSleepingEventPre(CauseStackManager
         frame.pushCause(forgeEvent.getEntity());
         final SleepingEvent.Pre spongeEvent = SpongeEventFactory.createSleepingEventPre(frame.getCurrentCause(), bedSnapshot, (org.spongepowered.api.entity.Entity) forgeEvent.getEntity());
         eventData.setSpongeEvent(spongeEvent);
-        eventManager.postEvent(eventData);
+        getEventManager().postEvent(eventData);
         return spongeEvent;
     }
 
@@ -411,7 +423,7 @@ private static LoadChunkEvent createAndPostLoadChunkEvent(CauseStackManager.Stac
         final Cause cause = isMainThread ? frame.getCurrentCause() : Cause.of(EventContext.empty(), forgeEvent.getWorld());
         final LoadChunkEvent spongeEvent = SpongeEventFactory.createLoadChunkEvent(cause, (Chunk) forgeEvent.getChunk());
         eventData.setSpongeEvent(spongeEvent);
-        eventManager.postEvent(eventData);
+        getEventManager().postEvent(eventData);
         return spongeEvent;
     }
 
@@ -424,7 +436,7 @@ private static UnloadChunkEvent createAndPostUnloadChunkEvent(CauseStackManager.
         final Cause cause = isMainThread ? frame.getCurrentCause() : Cause.of(EventContext.empty(), forgeEvent.getWorld());
         final UnloadChunkEvent spongeEvent = SpongeEventFactory.createUnloadChunkEvent(cause, (Chunk) forgeEvent.getChunk());
         eventData.setSpongeEvent(spongeEvent);
-        eventManager.postEvent(eventData);
+        getEventManager().postEvent(eventData);
         return spongeEvent;
     }
 
@@ -468,7 +480,7 @@ private static InteractItemEvent.Secondary createAndPostInteractItemSecondaryEve
                     HandTypes.OFF_HAND, Optional.ofNullable(hitVec), ItemStackUtil.snapshotOf(heldItem));
         }
         eventData.setSpongeEvent(spongeEvent);
-        eventManager.postEvent(eventData);
+        getEventManager().postEvent(eventData);
         if (spongeEvent.isCancelled()) {
             // Multiple slots may have been changed on the client. Right
             // clicking armor is one example - the client changes it
@@ -507,7 +519,7 @@ private static InteractBlockEvent.Primary createAndPostInteractBlockPrimaryEvent
                     Optional.ofNullable(VecHelper.toVector3d(forgeEvent.getHitVec())), blockSnapshot, direction);
         }
         eventData.setSpongeEvent(spongeEvent);
-        eventManager.postEvent(eventData);
+        getEventManager().postEvent(eventData);
         return spongeEvent;
     }
 
@@ -541,7 +553,7 @@ private static InteractBlockEvent.Secondary createAndPostInteractBlockSecondaryE
             spongeEvent = SpongeEventFactory.createInteractBlockEventSecondaryOffHand(frame.getCurrentCause(), useBlockResult, useBlockResult, useItemResult, useItemResult, hand, Optional.ofNullable(interactionPoint), blockSnapshot, direction);
         }
         eventData.setSpongeEvent(spongeEvent);
-        eventManager.postEvent(eventData);
+        getEventManager().postEvent(eventData);
         return spongeEvent;
     }
 
@@ -581,4 +593,30 @@ static void onPostEnd(ForgeToSpongeEventData eventData) {
             SpongeImpl.postEvent(SpongeCommonEventFactory.createInteractBlockEventSecondary(forgeEvent.getEntityPlayer(), heldItem, hitVec, blockSnapshot, direction, forgeEvent.getHand()));
         }
     }
+
+    @FunctionalInterface
+    interface SpongeEventPoster {
+
+        @Nullable
+        Event createAndPost(CauseStackManager.StackFrame frame, ForgeToSpongeEventData eventData);
+    }
+
+    /**
+     * Bridges a Forge event class, and its subclasses, to the corresponding Sponge event.
+     */
+    static final class SpongeEventConverter {
+
+        final Class<? extends net.minecraftforge.fml.common.eventhandler.Event> forgeClass;
+        final Class<? extends Event>[] spongeClasses;
+        final Function<net.minecraftforge.fml.common.eventhandler.Event, Class<? extends Event>> spongeClassResolver;
+        final SpongeEventPoster poster;
+
+        SpongeEventConverter(Class<? extends net.minecraftforge.fml.common.eventhandler.Event> forgeClass, Class<? extends Event>[] spongeClasses,
+            Function<net.minecraftforge.fml.common.eventhandler.Event, Class<? extends Event>> spongeClassResolver, SpongeEventPoster poster) {
+            this.forgeClass = forgeClass;
+            this.spongeClasses = spongeClasses;
+            this.spongeClassResolver = spongeClassResolver;
+            this.poster = poster;
+        }
+    }
 }
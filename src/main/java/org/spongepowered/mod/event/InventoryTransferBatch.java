@@ -0,0 +1,204 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.mod.event;
+
+import net.minecraft.item.ItemStack;
+import org.spongepowered.api.Sponge;
+import org.spongepowered.api.event.CauseStackManager;
+import org.spongepowered.api.event.SpongeEventFactory;
+import org.spongepowered.api.event.item.inventory.ChangeInventoryEvent;
+import org.spongepowered.api.item.inventory.Inventory;
+import org.spongepowered.api.item.inventory.ItemStackSnapshot;
+import org.spongepowered.api.item.inventory.transaction.SlotTransaction;
+import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.bridge.inventory.TrackedInventoryBridge;
+import org.spongepowered.common.item.inventory.util.ItemStackUtil;
+import org.spongepowered.mod.util.OptimizationFlags;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.annotation.Nullable;
+
+/**
+ * Collects the slot transactions of hopper and dropper transfers during a
+ * world tick and fires a single {@link ChangeInventoryEvent.Transfer.Post}
+ * per source and destination inventory at the end of the tick.
+ *
+ * <p>Each transfer is rolled back as a whole or not at all. Transfers of a
+ * batch are undone newest first, and a transfer is only touched while every
+ * slot it would change still holds what the transfer left there, so items
+ * moved on by other transfers in the same tick are never duplicated or
+ * deleted.</p>
+ *
+ * @see OptimizationFlags#BATCH_INVENTORY_TRANSFERS
+ */
+public final class InventoryTransferBatch {
+
+    private static Map<Key, Batch> pending = new LinkedHashMap<>();
+    private static Map<Key, Batch> flushing = new LinkedHashMap<>();
+
+    /**
+     * Moves the transactions captured so far into the batch of the given
+     * inventories, to be posted at the end of the world tick.
+     *
+     * <p>Batches are keyed by the native source and destination, since the
+     * inventory adapters of modded handlers aren't the same between
+     * transfers.</p>
+     *
+     * @param capture The capturing inventory
+     * @param source The source inventory
+     * @param destination The destination inventory
+     * @param nativeSource The tile entity, entity or item handler transferred from
+     * @param nativeDestination The tile entity, entity or item handler transferred to
+     */
+    public static void defer(@Nullable final TrackedInventoryBridge capture, @Nullable final Inventory source,
+        @Nullable final Inventory destination, final Object nativeSource, final Object nativeDestination) {
+        if (capture == null || source == null || destination == null) {
+            return;
+        }
+        final List<SlotTransaction> captured = capture.bridge$getCapturedSlotTransactions();
+        if (captured.isEmpty()) {
+            return;
+        }
+        pending.computeIfAbsent(new Key(nativeSource, nativeDestination), key -> new Batch(source, destination))
+            .transfers.add(new ArrayList<>(captured));
+        captured.clear();
+    }
+
+    /**
+     * Posts the batched events, called at the end of each world tick.
+     */
+    public static void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        // Listeners may cause further transfers, which go into the next batch
+        final Map<Key, Batch> batches = pending;
+        pending = flushing;
+        flushing = batches;
+        try {
+            for (final Batch batch : batches.values()) {
+                post(batch);
+            }
+        } finally {
+            batches.clear();
+        }
+    }
+
+    private static void post(final Batch batch) {
+        final List<SlotTransaction> transactions = new ArrayList<>();
+        for (final List<SlotTransaction> transfer : batch.transfers) {
+            transactions.addAll(transfer);
+        }
+        final ChangeInventoryEvent.Transfer.Post event;
+        try (final CauseStackManager.StackFrame frame = Sponge.getCauseStackManager().pushCauseFrame()) {
+            frame.pushCause(batch.source);
+            event = SpongeEventFactory.createChangeInventoryEventTransferPost(frame.getCurrentCause(), batch.source, batch.destination,
+                transactions);
+            SpongeImpl.postEvent(event);
+        }
+        for (int i = batch.transfers.size() - 1; i >= 0; i--) {
+            apply(batch.transfers.get(i), event.isCancelled());
+        }
+    }
+
+    private static void apply(final List<SlotTransaction> transfer, final boolean cancelled) {
+        // Everything this transfer changes has to still be as it was left, or nothing is touched
+        boolean changed = false;
+        for (final SlotTransaction transaction : transfer) {
+            if (target(transaction, cancelled) != null) {
+                changed = true;
+                final ItemStack current = transaction.getSlot().peek().map(ItemStackUtil::toNative).orElse(ItemStack.EMPTY);
+                if (!ItemStack.areItemStacksEqual(current, ItemStackUtil.fromSnapshotToNative(transaction.getDefault()))) {
+                    SpongeImpl.getLogger().debug("Not restoring a batched inventory transfer, its slots were changed again in the same tick");
+                    return;
+                }
+            }
+        }
+        if (!changed) {
+            return;
+        }
+        for (final SlotTransaction transaction : transfer) {
+            @Nullable final ItemStackSnapshot target = target(transaction, cancelled);
+            if (target != null) {
+                transaction.getSlot().set(target.createStack());
+            }
+        }
+    }
+
+    @Nullable
+    private static ItemStackSnapshot target(final SlotTransaction transaction, final boolean cancelled) {
+        if (cancelled || !transaction.isValid()) {
+            return transaction.getOriginal();
+        }
+        return transaction.getCustom().orElse(null);
+    }
+
+    private static final class Batch {
+
+        final Inventory source;
+        final Inventory destination;
+        final List<List<SlotTransaction>> transfers = new ArrayList<>();
+
+        Batch(final Inventory source, final Inventory destination) {
+            this.source = source;
+            this.destination = destination;
+        }
+    }
+
+    private static final class Key {
+
+        final Object source;
+        final Object destination;
+
+        Key(final Object source, final Object destination) {
+            this.source = source;
+            this.destination = destination;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            final Key other = (Key) o;
+            return this.source == other.source && this.destination == other.destination;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode(this.source) + System.identityHashCode(this.destination);
+        }
+    }
+
+    private InventoryTransferBatch() {
+    }
+}
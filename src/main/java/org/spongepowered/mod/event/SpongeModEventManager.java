@@ -26,6 +26,7 @@
 
 import com.google.common.collect.ImmutableBiMap;
 import com.google.common.collect.ImmutableMultimap;
+import com.google.common.collect.MapMaker;
 import com.google.inject.Singleton;
 import net.minecraftforge.common.MinecraftForge;
 import net.minecraftforge.event.CommandEvent;
@@ -77,6 +78,7 @@
 import org.spongepowered.api.event.Cancellable;
 import org.spongepowered.api.event.CauseStackManager;
 import org.spongepowered.api.event.Event;
+import org.spongepowered.api.event.GenericEvent;
 import org.spongepowered.api.event.Order;
 import org.spongepowered.api.event.action.CollideEvent;
 import org.spongepowered.api.event.action.LightningEvent;
@@ -106,6 +108,7 @@
 import org.spongepowered.api.event.world.UnloadWorldEvent;
 import org.spongepowered.api.event.world.chunk.LoadChunkEvent;
 import org.spongepowered.api.event.world.chunk.UnloadChunkEvent;
+import org.spongepowered.api.plugin.PluginContainer;
 import org.spongepowered.api.plugin.PluginManager;
 import org.spongepowered.asm.util.PrettyPrinter;
 import org.spongepowered.common.SpongeImpl;
@@ -115,11 +118,14 @@
 import org.spongepowered.mod.SpongeMod;
 import org.spongepowered.mod.bridge.event.EventBusBridge_Forge;
 import org.spongepowered.mod.bridge.fml.LoadControllerBridge_Forge;
+import org.spongepowered.mod.util.OptimizationFlags;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import javax.inject.Inject;
 
 @SuppressWarnings("rawtypes")
@@ -259,11 +265,47 @@ public class SpongeModEventManager extends SpongeEventManager {
 
                     .build();
 
+    /**
+     * Incremented whenever Sponge listeners are registered or unregistered,
+     * used to invalidate listener caches held outside of this manager.
+     */
+    private volatile int listenerGeneration;
+
+    /**
+     * The flattened listeners of each handler cache. Handler caches are
+     * replaced whenever listeners change, so the keys are weakly held.
+     */
+    private final Map<RegisteredListener.Cache, BakedListeners> bakedListeners = new MapMaker().weakKeys().makeMap();
+
+    /**
+     * A class keyed index of the handler caches, which avoids creating a
+     * new {@link EventType} for each lookup.
+     */
+    private final ClassValue<HandlerCacheEntry> handlerCacheIndex = new ClassValue<HandlerCacheEntry>() {
+        @SuppressWarnings("unchecked")
+        @Override
+        protected HandlerCacheEntry computeValue(Class<?> type) {
+            return new HandlerCacheEntry(new EventType<>((Class<? extends Event>) type));
+        }
+    };
+
     @Inject
     public SpongeModEventManager(Logger logger, PluginManager pluginManager) {
         super(logger, pluginManager);
     }
 
+    public int getListenerGeneration() {
+        return this.listenerGeneration;
+    }
+
+    /**
+     * Called after the registered listeners have changed and the
+     * handler cache has been invalidated.
+     */
+    public void onListenersChanged() {
+        this.listenerGeneration++;
+    }
+
     private boolean areStartupTimingsEnabled() {
         return SpongeImpl.getGame().getState().ordinal() < GameState.SERVER_ABOUT_TO_START.ordinal();
     }
@@ -329,23 +371,21 @@ private SpongeToForgeEventData post(SpongeToForgeEventData eventData) {
         final Event spongeEvent = eventData.getSpongeEvent();
         final boolean hasSpongeListeners = !eventData.getSpongeListenerCache().getListeners().isEmpty();
 
-        if (hasSpongeListeners) {
+        final BakedListeners listeners = hasSpongeListeners ? getBakedListeners(eventData.getSpongeListenerCache()) : null;
+
+        if (listeners != null) {
             // Fire event to plugins before modifications
-            for (Order order : Order.values()) {
-                post(spongeEvent, eventData.getSpongeListenerCache().getListenersByOrder(order), true, false, eventData.useCauseStackManager());
-            }
+            post(spongeEvent, listeners.beforeModifications, eventData.useCauseStackManager());
         }
 
         SpongeToForgeEventFactory.createAndPostForgeEvent(eventData);
 
-        if (hasSpongeListeners) {
+        if (listeners != null) {
             // Some special casing for the spawn events to process custom items.
             SpongeToForgeEventFactory.handlePrefireLogic(spongeEvent);
             // Fire event to plugins after modifications (default)
             // Note: We need to always fire to plugins if beforeModifications wasn't triggered due to no forge listeners
-            for (Order order : Order.values()) {
-                post(spongeEvent, eventData.getSpongeListenerCache().getListenersByOrder(order), false, false, eventData.useCauseStackManager());
-            }
+            post(spongeEvent, listeners.afterModifications, eventData.useCauseStackManager());
         }
 
         return eventData;
@@ -357,63 +397,138 @@ private SpongeToForgeEventData post(SpongeToForgeEventData eventData) {
      * @param eventData The event data
      */
     void postEvent(ForgeToSpongeEventData eventData) {
-        for (Order order : Order.values()) {
-            post(eventData.getSpongeEvent(), eventData.getSpongeListenerCache().getListenersByOrder(order), eventData.isBeforeModifications(), eventData.isForced(), eventData.useCauseStackManager());
-        }
+        final BakedListeners listeners = getBakedListeners(eventData.getSpongeListenerCache());
+        post(eventData.getSpongeEvent(), listeners.get(eventData.isBeforeModifications(), eventData.isForced()), eventData.useCauseStackManager());
         eventData.propagateCancelled();
     }
 
-    @SuppressWarnings("unchecked")
+    /**
+     * Gets the listeners of the given cache flattened by order and
+     * partitioned by before and after modifications.
+     *
+     * @param cache The listener cache
+     * @return The baked listeners
+     */
+    BakedListeners getBakedListeners(RegisteredListener.Cache cache) {
+        BakedListeners listeners = this.bakedListeners.get(cache);
+        if (listeners == null) {
+            listeners = new BakedListeners(cache);
+            this.bakedListeners.put(cache, listeners);
+        }
+        return listeners;
+    }
+
     public boolean post(Event event, List<RegisteredListener<?>> listeners, boolean beforeModifications, boolean forced,
             boolean useCauseStackManager) {
-        ModContainer oldContainer = ((LoadControllerBridge_Forge) SpongeMod.instance.getController()).forgeBridge$getActiveModContainer();
-        for (@SuppressWarnings("rawtypes")
-        RegisteredListener listener : listeners) {
-            ((LoadControllerBridge_Forge) SpongeMod.instance.getController()).forgeBridge$setActiveModContainer((ModContainer) listener.getPlugin());
-            try {
-                if (forced || (!listener.isBeforeModifications() && !beforeModifications)
-                        || (listener.isBeforeModifications() && beforeModifications)) {
-                    listener.getTimingsHandler().startTimingIfSync();
-                    if (event instanceof AbstractEvent) {
-                        ((AbstractEvent) event).currentOrder = listener.getOrder();
-                    }
-                    if (useCauseStackManager) {
-                        try (CauseStackManager.StackFrame frame = Sponge.getCauseStackManager().pushCauseFrame()) {
-                            frame.pushCause(listener.getPlugin());
-                            listener.handle(event);
+        return post(event, null, listeners, listeners.size(), beforeModifications, forced, useCauseStackManager);
+    }
+
+    /**
+     * Posts the event to all of the given listeners, which are expected to
+     * already be sorted by order and filtered by modification stage.
+     *
+     * @param event The event to post
+     * @param listeners The listeners to post to
+     * @param useCauseStackManager Whether to push a cause frame per listener
+     * @return True if the event is cancelled
+     */
+    public boolean post(Event event, RegisteredListener<?>[] listeners, boolean useCauseStackManager) {
+        return post(event, listeners, null, listeners.length, false, true, useCauseStackManager);
+    }
+
+    /**
+     * Posts the event to the listeners held either by the array or by the
+     * list, so neither has to be copied into the other.
+     */
+    @SuppressWarnings("unchecked")
+    private boolean post(Event event, @Nullable RegisteredListener<?>[] listenerArray, @Nullable List<RegisteredListener<?>> listenerList,
+            int size, boolean beforeModifications, boolean forced, boolean useCauseStackManager) {
+        if (size == 0) {
+            return event instanceof Cancellable && ((Cancellable) event).isCancelled();
+        }
+        final LoadControllerBridge_Forge controller = (LoadControllerBridge_Forge) SpongeMod.instance.getController();
+        final ModContainer oldContainer = controller.forgeBridge$getActiveModContainer();
+        final boolean coalesce = OptimizationFlags.COALESCE_LISTENER_FRAMES;
+        PluginContainer currentPlugin = null;
+        // Only used when coalescing, shared by adjacent listeners of the same plugin
+        CauseStackManager.StackFrame pluginFrame = null;
+        try {
+            for (int i = 0; i < size; i++) {
+                @SuppressWarnings("rawtypes")
+                final RegisteredListener listener = listenerArray != null ? listenerArray[i] : listenerList.get(i);
+                if (!forced && listener.isBeforeModifications() != beforeModifications) {
+                    continue;
+                }
+                final PluginContainer plugin = listener.getPlugin();
+                if (!coalesce || plugin != currentPlugin) {
+                    controller.forgeBridge$setActiveModContainer((ModContainer) plugin);
+                    if (coalesce && useCauseStackManager) {
+                        if (pluginFrame != null) {
+                            pluginFrame.close();
                         }
-                    } else {
-                        listener.handle(event);
+                        pluginFrame = Sponge.getCauseStackManager().pushCauseFrame();
+                        pluginFrame.pushCause(plugin);
                     }
+                    currentPlugin = plugin;
                 }
-            } catch (Throwable e) {
-                new PrettyPrinter(60).add("%s %s", "Could not pass ", event.getClass().getSimpleName()).centre().hr()
-                        .add("Could not pass the event %s to an Event Listener!", event.getClass().getSimpleName())
-                        .add()
-                        .add("Since the event can be modified during the event's listener,")
-                        .add("there could be adverse side effects of the exception occurring")
-                        .add("such that duplications or other game breaking issues could exist.")
-                        .add()
-                        .add("Due to the nature of the exception, this is not likely an exception")
-                        .add("that is covered by SpongeForge or Forge itself, and therefore should")
-                        .add("be reported to the mod/plugin author first prior to reporting to")
-                        .add("Sponge or Forge.")
-                        .add()
-                        .add("%s: %s", "Owning Mod/Plugin", listener.getPlugin().getId())
-                        .add("Exception:")
-                        .add(e)
-                        .log(SpongeImpl.getLogger(), Level.WARN);
-            } finally {
-                listener.getTimingsHandler().stopTimingIfSync();
+                postToListener(event, listener, useCauseStackManager && !coalesce);
+            }
+        } finally {
+            if (pluginFrame != null) {
+                pluginFrame.close();
             }
         }
         if (event instanceof AbstractEvent) {
             ((AbstractEvent) event).currentOrder = null;
         }
-        ((LoadControllerBridge_Forge) SpongeMod.instance.getController()).forgeBridge$setActiveModContainer(oldContainer);
+        controller.forgeBridge$setActiveModContainer(oldContainer);
         return event instanceof Cancellable && ((Cancellable) event).isCancelled();
     }
 
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static void postToListener(Event event, RegisteredListener listener, boolean pushCauseFrame) {
+        try {
+            listener.getTimingsHandler().startTimingIfSync();
+            if (event instanceof AbstractEvent) {
+                ((AbstractEvent) event).currentOrder = listener.getOrder();
+            }
+            final BridgeMetrics.Sample sample = BridgeMetrics.begin();
+            try {
+                if (pushCauseFrame) {
+                    try (CauseStackManager.StackFrame frame = Sponge.getCauseStackManager().pushCauseFrame()) {
+                        frame.pushCause(listener.getPlugin());
+                        listener.handle(event);
+                    }
+                } else {
+                    listener.handle(event);
+                }
+            } finally {
+                if (sample != null) {
+                    sample.end(BridgeMetrics.Stage.LISTENER, event.getClass(), listener.getPlugin().getId());
+                }
+            }
+        } catch (Throwable e) {
+            new PrettyPrinter(60).add("%s %s", "Could not pass ", event.getClass().getSimpleName()).centre().hr()
+                    .add("Could not pass the event %s to an Event Listener!", event.getClass().getSimpleName())
+                    .add()
+                    .add("Since the event can be modified during the event's listener,")
+                    .add("there could be adverse side effects of the exception occurring")
+                    .add("such that duplications or other game breaking issues could exist.")
+                    .add()
+                    .add("Due to the nature of the exception, this is not likely an exception")
+                    .add("that is covered by SpongeForge or Forge itself, and therefore should")
+                    .add("be reported to the mod/plugin author first prior to reporting to")
+                    .add("Sponge or Forge.")
+                    .add()
+                    .add("%s: %s", "Owning Mod/Plugin", listener.getPlugin().getId())
+                    .add("Exception:")
+                    .add(e)
+                    .log(SpongeImpl.getLogger(), Level.WARN);
+        } finally {
+            listener.getTimingsHandler().stopTimingIfSync();
+        }
+    }
+
     @Override
     public boolean post(@Nonnull Event spongeEvent, boolean allowClientThread) {
         this.extendedPost(spongeEvent, false, allowClientThread);
@@ -447,16 +562,24 @@ public SpongeToForgeEventData extendedPost(Event spongeEvent, boolean requiresEv
                         hasListener = forgeListenerClassList.contains(clazz.getSuperclass());
                     }
                     if (hasListener) {
-                        return post(new SpongeToForgeEventData(spongeEvent, clazz, listenerCache, useCauseStackManager));
+                        final BridgeMetrics.Sample sample = BridgeMetrics.begin();
+                        final SpongeToForgeEventData eventData;
+                        try {
+                            eventData = new SpongeToForgeEventData(spongeEvent, clazz, listenerCache, useCauseStackManager);
+                        } finally {
+                            if (sample != null) {
+                                // The Forge listeners are only known once the Forge event is created
+                                sample.end(BridgeMetrics.Stage.CONVERSION, spongeEvent.getClass(), null);
+                            }
+                        }
+                        return post(eventData);
                     }
                 }
             }
         }
 
         // no checking for modifications required
-        for (Order order : Order.values()) {
-            post(spongeEvent, listenerCache.getListenersByOrder(order), false, true, useCauseStackManager);
-        }
+        post(spongeEvent, getBakedListeners(listenerCache).all, useCauseStackManager);
         if (requiresEventData) {
             return new SpongeToForgeEventData(spongeEvent, clazz, listenerCache, useCauseStackManager);
         }
@@ -479,8 +602,59 @@ public boolean isIgnoredEvent(Event event) {
         return false;
     }
 
+    /**
+     * Gets the handler cache for the given event class. The cache is
+     * looked up through a class keyed index, which is only refreshed after
+     * listeners have changed, so this does not allocate on the posting path.
+     *
+     * @param eventClass The event class
+     * @return The handler cache
+     */
     public RegisteredListener.Cache getHandlerCache(Class<? extends Event> eventClass) {
-        final EventType<? extends Event> eventType = new EventType<>(eventClass);
-        return this.handlersCache.get(eventType);
+        final HandlerCacheEntry entry = this.handlerCacheIndex.get(eventClass);
+        final int generation = this.listenerGeneration;
+        HandlerCacheSnapshot snapshot = entry.snapshot;
+        if (snapshot == null || snapshot.generation != generation) {
+            snapshot = new HandlerCacheSnapshot(generation, this.handlersCache.get(entry.eventType));
+            entry.snapshot = snapshot;
+        }
+        return snapshot.cache;
+    }
+
+    /**
+     * Gets the handler cache for the given event, through the class keyed
+     * index unless the listeners also depend on the generic type of the
+     * event.
+     *
+     * @param event The event
+     * @return The handler cache
+     */
+    @Override
+    public RegisteredListener.Cache getHandlerCache(Event event) {
+        if (event instanceof GenericEvent) {
+            return super.getHandlerCache(event);
+        }
+        return getHandlerCache(event.getClass());
+    }
+
+    private static final class HandlerCacheEntry {
+
+        final EventType<? extends Event> eventType;
+        @Nullable volatile HandlerCacheSnapshot snapshot;
+
+        HandlerCacheEntry(EventType<? extends Event> eventType) {
+            this.eventType = eventType;
+        }
+    }
+
+    private static final class HandlerCacheSnapshot {
+
+        final int generation;
+        final RegisteredListener.Cache cache;
+
+        HandlerCacheSnapshot(int generation, RegisteredListener.Cache cache) {
+            this.generation = generation;
+            this.cache = cache;
+        }
     }
 }
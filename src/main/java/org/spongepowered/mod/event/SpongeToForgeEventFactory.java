@@ -128,8 +128,11 @@
 import java.util.ListIterator;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
+import javax.annotation.Nullable;
+
 //This class handles events initiated by Sponge plugins.
 //It is primarily responsible for firing a corresponding Forge event to mods.
 @SuppressWarnings("deprecation")
@@ -138,174 +141,179 @@ public class SpongeToForgeEventFactory {
     static final EventBusBridge_Forge forgeEventBus = ((EventBusBridge_Forge) MinecraftForge.EVENT_BUS);
 
     /**
-     * Used by {@link SpongeModEventManager#extendedPost} to obtain
-     * corresponding forge event class if available.
-     * 
-     * @param spongeEvent The sponge event to check against forge
-     * @return The forge event class, if available
+     * The registered converters used to resolve the Forge event class of a Sponge event,
+     * in the order they should be matched. More specific Sponge event classes must be
+     * registered before their super interfaces.
      */
-    static Class<? extends net.minecraftforge.fml.common.eventhandler.Event> getForgeEventClass(final Event spongeEvent) {
-        if (spongeEvent instanceof MessageChannelEvent.Chat) {
-            return ServerChatEvent.class;
-        } else if (spongeEvent instanceof ChangeInventoryEvent.Pickup.Pre) {
-            if (spongeEvent.getCause().root() instanceof Player) {
-                return EntityItemPickupEvent.class;
-            }
-        } else if (spongeEvent instanceof DestructEntityEvent.Death) {
-            return LivingDeathEvent.class;
-        } else if (spongeEvent instanceof InteractBlockEvent) {
-            if (spongeEvent instanceof InteractBlockEvent.Primary) {
-                return PlayerInteractEvent.LeftClickBlock.class;
-            }
-            if (spongeEvent instanceof  InteractBlockEvent.Secondary) {
-                return PlayerInteractEvent.RightClickBlock.class;
-            }
-        } else if (spongeEvent instanceof InteractEntityEvent.Secondary) {
-            final InteractEntityEvent event = (InteractEntityEvent) spongeEvent;
-            if (event.getInteractionPoint().isPresent()) {
-                return PlayerInteractEvent.EntityInteractSpecific.class;
-            } else {
-                return PlayerInteractEvent.EntityInteract.class;
-            }
-        } else if (spongeEvent instanceof InteractItemEvent.Secondary) {
-            return PlayerInteractEvent.RightClickItem.class;
-        } else if (spongeEvent instanceof NotifyNeighborBlockEvent) {
-            return BlockEvent.NeighborNotifyEvent.class;
-        } else if (spongeEvent instanceof ChangeBlockEvent.Place) {
-            if (((ChangeBlockEvent) spongeEvent).getTransactions().size() > 1) {
-                return BlockEvent.MultiPlaceEvent.class;
-            }
-            return BlockEvent.PlaceEvent.class;
-        } else if (spongeEvent instanceof ExplosionEvent.Pre) {
-            return net.minecraftforge.event.world.ExplosionEvent.Start.class;
-        } else if (spongeEvent instanceof ExplosionEvent.Detonate) {
-            return net.minecraftforge.event.world.ExplosionEvent.Detonate.class;
-        } else if (spongeEvent instanceof DropItemEvent) {
-            final Object source = spongeEvent.getSource();
-            if (spongeEvent instanceof DropItemEvent.Destruct && (source instanceof Living || source instanceof DamageSource)) {
-                return LivingDropsEvent.class;
-            }
-            if ((spongeEvent instanceof DropItemEvent.Dispense || spongeEvent instanceof DropItemEvent.Custom) && source instanceof Player) {
-                if (((EventBusBridge_Forge) MinecraftForge.EVENT_BUS).forgeBridge$getEventListenerClassList().contains(ItemTossEvent.class)) {
-                    return ItemTossEvent.class;
-                }
-                if (((EventBusBridge_Forge) MinecraftForge.EVENT_BUS).forgeBridge$getEventListenerClassList().contains(EntityJoinWorldEvent.class)) {
-                    return EntityJoinWorldEvent.class;
+    private static final List<ForgeEventConverter> converters = new ArrayList<>();
+    private static final ForgeEventConverter NO_CONVERTER = new ForgeEventConverter(Event.class, spongeEvent -> null);
+
+    /**
+     * The registered posters, in the order they should be matched against the Sponge
+     * event class and the Forge event class of the event data.
+     */
+    private static final List<ForgeEventPosterEntry> posters = new ArrayList<>();
+    private static final ForgeEventPoster NO_POSTER = eventData -> false;
+
+    private static final ClassValue<ForgeEventConverter> converterByClass = new ClassValue<ForgeEventConverter>() {
+        @Override
+        protected ForgeEventConverter computeValue(final Class<?> type) {
+            for (final ForgeEventConverter converter : converters) {
+                if (converter.spongeClass.isAssignableFrom(type)) {
+                    return converter;
                 }
-                return null;
             }
-        } else if (spongeEvent instanceof ClientConnectionEvent) {
-            if (spongeEvent instanceof ClientConnectionEvent.Join) {
-                return PlayerEvent.PlayerLoggedInEvent.class;
-            }
-            if (spongeEvent instanceof ClientConnectionEvent.Disconnect) {
-                return PlayerEvent.PlayerLoggedOutEvent.class;
-            }
-        } else if (spongeEvent instanceof MoveEntityEvent.Teleport) {
-            return EntityTravelToDimensionEvent.class;
-        } else if (spongeEvent instanceof SpawnEntityEvent) {
-            return EntityJoinWorldEvent.class;
-        } else if (spongeEvent instanceof LoadWorldEvent) {
-            return WorldEvent.Load.class;
-        } else if (spongeEvent instanceof UnloadWorldEvent) {
-            return WorldEvent.Unload.class;
-        } else if (spongeEvent instanceof SaveWorldEvent.Post) {
-            return WorldEvent.Save.class;
-        } else if (spongeEvent instanceof LoadChunkEvent) {
-            return ChunkEvent.Load.class;
-        } else if (spongeEvent instanceof UnloadChunkEvent) {
-            return ChunkEvent.Unload.class;
-        } else if (spongeEvent instanceof FishingEvent.Stop) {
-            return ItemFishedEvent.class;
-        } else if (spongeEvent instanceof UseItemStackEvent) {
-            if (spongeEvent instanceof UseItemStackEvent.Start) {
-                return LivingEntityUseItemEvent.Start.class;
-            }
-            if (spongeEvent instanceof UseItemStackEvent.Tick) {
-                return LivingEntityUseItemEvent.Tick.class;
+            return NO_CONVERTER;
+        }
+    };
+
+    /**
+     * Posters depend on both the Sponge event class and the Forge event class, the latter
+     * being resolved lazily per Sponge event class as there are only ever a couple of them.
+     */
+    private static final ClassValue<Map<Class<?>, ForgeEventPoster>> posterByClass = new ClassValue<Map<Class<?>, ForgeEventPoster>>() {
+        @Override
+        protected Map<Class<?>, ForgeEventPoster> computeValue(final Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    static {
+        registerConverter(MessageChannelEvent.Chat.class, ServerChatEvent.class);
+        registerConverter(ChangeInventoryEvent.Pickup.Pre.class,
+            spongeEvent -> spongeEvent.getCause().root() instanceof Player ? EntityItemPickupEvent.class : null);
+        registerConverter(DestructEntityEvent.Death.class, LivingDeathEvent.class);
+        registerConverter(InteractBlockEvent.Primary.class, PlayerInteractEvent.LeftClickBlock.class);
+        registerConverter(InteractBlockEvent.Secondary.class, PlayerInteractEvent.RightClickBlock.class);
+        registerConverter(InteractBlockEvent.class, spongeEvent -> null);
+        registerConverter(InteractEntityEvent.Secondary.class, spongeEvent -> ((InteractEntityEvent) spongeEvent).getInteractionPoint().isPresent()
+            ? PlayerInteractEvent.EntityInteractSpecific.class
+            : PlayerInteractEvent.EntityInteract.class);
+        registerConverter(InteractItemEvent.Secondary.class, PlayerInteractEvent.RightClickItem.class);
+        registerConverter(NotifyNeighborBlockEvent.class, BlockEvent.NeighborNotifyEvent.class);
+        registerConverter(ChangeBlockEvent.Place.class, spongeEvent -> ((ChangeBlockEvent) spongeEvent).getTransactions().size() > 1
+            ? BlockEvent.MultiPlaceEvent.class
+            : BlockEvent.PlaceEvent.class);
+        registerConverter(ExplosionEvent.Pre.class, net.minecraftforge.event.world.ExplosionEvent.Start.class);
+        registerConverter(ExplosionEvent.Detonate.class, net.minecraftforge.event.world.ExplosionEvent.Detonate.class);
+        registerConverter(DropItemEvent.class, SpongeToForgeEventFactory::getDropItemForgeEventClass);
+        registerConverter(ClientConnectionEvent.Join.class, PlayerEvent.PlayerLoggedInEvent.class);
+        registerConverter(ClientConnectionEvent.Disconnect.class, PlayerEvent.PlayerLoggedOutEvent.class);
+        registerConverter(ClientConnectionEvent.class, spongeEvent -> null);
+        registerConverter(MoveEntityEvent.Teleport.class, EntityTravelToDimensionEvent.class);
+        registerConverter(SpawnEntityEvent.class, EntityJoinWorldEvent.class);
+        registerConverter(LoadWorldEvent.class, WorldEvent.Load.class);
+        registerConverter(UnloadWorldEvent.class, WorldEvent.Unload.class);
+        registerConverter(SaveWorldEvent.Post.class, WorldEvent.Save.class);
+        registerConverter(LoadChunkEvent.class, ChunkEvent.Load.class);
+        registerConverter(UnloadChunkEvent.class, ChunkEvent.Unload.class);
+        registerConverter(FishingEvent.Stop.class, ItemFishedEvent.class);
+        registerConverter(UseItemStackEvent.Start.class, LivingEntityUseItemEvent.Start.class);
+        registerConverter(UseItemStackEvent.Tick.class, LivingEntityUseItemEvent.Tick.class);
+        registerConverter(UseItemStackEvent.Stop.class, LivingEntityUseItemEvent.Stop.class);
+        registerConverter(UseItemStackEvent.Replace.class, LivingEntityUseItemEvent.Finish.class);
+        registerConverter(UseItemStackEvent.class, spongeEvent -> null);
+        registerConverter(AdvancementEvent.Grant.class, net.minecraftforge.event.entity.player.AdvancementEvent.class);
+        registerConverter(RideEntityEvent.class, net.minecraftforge.event.entity.EntityMountEvent.class);
+
+        registerPoster(MessageChannelEvent.Chat.class, SpongeToForgeEventFactory::createAndPostServerChatEvent);
+        registerPoster(ChangeInventoryEvent.Pickup.Pre.class, SpongeToForgeEventFactory::createAndPostEntityItemPickupEvent);
+        registerPoster(InteractEntityEvent.Secondary.class, SpongeToForgeEventFactory::createAndPostEntityInteractEvent);
+        registerPoster(NotifyNeighborBlockEvent.class, SpongeToForgeEventFactory::createAndPostNeighborNotifyEvent);
+        registerPoster(ChangeBlockEvent.Place.class, SpongeToForgeEventFactory::createAndPostBlockPlaceEvent);
+        registerPoster(ChangeBlockEvent.Pre.class, SpongeToForgeEventFactory::createAndPostBlockBreakEvent);
+        registerPoster(InteractBlockEvent.class, PlayerInteractEvent.class, SpongeToForgeEventFactory::createAndPostPlayerInteractBlockEvent);
+        registerPoster(InteractItemEvent.Secondary.class, PlayerInteractEvent.class, SpongeToForgeEventFactory::createAndPostPlayerInteractItemEvent);
+        registerPoster(Event.class, PlayerInteractEvent.class, NO_POSTER);
+        registerPoster(DropItemEvent.Destruct.class, LivingDropsEvent.class, eventData -> eventData.getSpongeEvent().getSource() instanceof Player
+            ? createAndPostItemTossEvent(eventData)
+            : createAndPostLivingDropsEventEvent(eventData));
+        registerPoster(Event.class, LivingDropsEvent.class, NO_POSTER);
+        registerPoster(DropItemEvent.Dispense.class, ItemTossEvent.class, eventData -> eventData.getSpongeEvent().getSource() instanceof Player
+            && createAndPostItemTossEvent(eventData));
+        registerPoster(Event.class, ItemTossEvent.class, NO_POSTER);
+        registerPoster(ClientConnectionEvent.Join.class, SpongeToForgeEventFactory::createAndPostPlayerLoggedInEvent);
+        registerPoster(ClientConnectionEvent.Disconnect.class, SpongeToForgeEventFactory::createAndPostPlayerLoggedOutEvent);
+        registerPoster(Event.class, EntityJoinWorldEvent.class, SpongeToForgeEventFactory::createAndPostEntityJoinWorldEvent);
+        registerPoster(UnloadWorldEvent.class, SpongeToForgeEventFactory::createAndPostWorldUnloadEvent);
+        registerPoster(LoadWorldEvent.class, SpongeToForgeEventFactory::createAndPostWorldLoadEvent);
+        registerPoster(SaveWorldEvent.class, SpongeToForgeEventFactory::createAndPostWorldSaveEvent);
+        registerPoster(LoadChunkEvent.class, SpongeToForgeEventFactory::createAndPostChunkLoadEvent);
+        registerPoster(UnloadChunkEvent.class, SpongeToForgeEventFactory::createAndPostChunkUnloadEvent);
+        registerPoster(ExplosionEvent.Pre.class, SpongeToForgeEventFactory::createAndPostExplosionEventPre);
+        registerPoster(ExplosionEvent.Detonate.class, SpongeToForgeEventFactory::createAndPostExplosionEventDetonate);
+        registerPoster(FishingEvent.Stop.class, SpongeToForgeEventFactory::createAndPostItemFishedEvent);
+        registerPoster(UseItemStackEvent.class, SpongeToForgeEventFactory::createAndPostLivingUseItemEvent);
+        registerPoster(AdvancementEvent.Grant.class, SpongeToForgeEventFactory::createAndPostAdvancementGrantEvent);
+        registerPoster(RideEntityEvent.class, SpongeToForgeEventFactory::createAndPostRideEntityEvent);
+    }
+
+    private static void registerConverter(final Class<? extends Event> spongeClass,
+        final Class<? extends net.minecraftforge.fml.common.eventhandler.Event> forgeClass) {
+        converters.add(new ForgeEventConverter(spongeClass, spongeEvent -> forgeClass));
+    }
+
+    private static void registerConverter(final Class<? extends Event> spongeClass, final ForgeEventClassResolver resolver) {
+        converters.add(new ForgeEventConverter(spongeClass, resolver));
+    }
+
+    private static void registerPoster(final Class<? extends Event> spongeClass, final ForgeEventPoster poster) {
+        registerPoster(spongeClass, net.minecraftforge.fml.common.eventhandler.Event.class, poster);
+    }
+
+    private static void registerPoster(final Class<? extends Event> spongeClass,
+        final Class<? extends net.minecraftforge.fml.common.eventhandler.Event> forgeClass, final ForgeEventPoster poster) {
+        posters.add(new ForgeEventPosterEntry(spongeClass, forgeClass, poster));
+    }
+
+    private static ForgeEventPoster findPoster(final Class<?> spongeClass, final Class<?> forgeClass) {
+        for (final ForgeEventPosterEntry entry : posters) {
+            if (entry.spongeClass.isAssignableFrom(spongeClass) && entry.forgeClass.isAssignableFrom(forgeClass)) {
+                return entry.poster;
             }
-            if (spongeEvent instanceof UseItemStackEvent.Stop) {
-                return LivingEntityUseItemEvent.Stop.class;
+        }
+        return NO_POSTER;
+    }
+
+    @Nullable
+    private static Class<? extends net.minecraftforge.fml.common.eventhandler.Event> getDropItemForgeEventClass(final Event spongeEvent) {
+        final Object source = spongeEvent.getSource();
+        if (spongeEvent instanceof DropItemEvent.Destruct && (source instanceof Living || source instanceof DamageSource)) {
+            return LivingDropsEvent.class;
+        }
+        if ((spongeEvent instanceof DropItemEvent.Dispense || spongeEvent instanceof DropItemEvent.Custom) && source instanceof Player) {
+            if (forgeEventBus.forgeBridge$getEventListenerClassList().contains(ItemTossEvent.class)) {
+                return ItemTossEvent.class;
             }
-            if (spongeEvent instanceof UseItemStackEvent.Replace) {
-                return LivingEntityUseItemEvent.Finish.class;
+            if (forgeEventBus.forgeBridge$getEventListenerClassList().contains(EntityJoinWorldEvent.class)) {
+                return EntityJoinWorldEvent.class;
             }
-        } else if (spongeEvent instanceof AdvancementEvent.Grant) {
-            return net.minecraftforge.event.entity.player.AdvancementEvent.class;
-        } else if (spongeEvent instanceof RideEntityEvent) {
-            return net.minecraftforge.event.entity.EntityMountEvent.class;
         }
         return null;
     }
 
+    /**
+     * Used by {@link SpongeModEventManager#extendedPost} to obtain
+     * corresponding forge event class if available.
+     * 
+     * @param spongeEvent The sponge event to check against forge
+     * @return The forge event class, if available
+     */
+    static Class<? extends net.minecraftforge.fml.common.eventhandler.Event> getForgeEventClass(final Event spongeEvent) {
+        return converterByClass.get(spongeEvent.getClass()).resolver.getForgeEventClass(spongeEvent);
+    }
+
     // Used for firing Forge events after a Sponge event has been triggered
     static boolean createAndPostForgeEvent(final SpongeToForgeEventData spongeEventData) {
         final Class<? extends net.minecraftforge.fml.common.eventhandler.Event> clazz = spongeEventData.getForgeClass();
-        final Event spongeEvent = spongeEventData.getSpongeEvent();
-        if (spongeEvent instanceof MessageChannelEvent.Chat) {
-            return createAndPostServerChatEvent(spongeEventData);
-        } else if (spongeEvent instanceof ChangeInventoryEvent.Pickup.Pre) {
-            return createAndPostEntityItemPickupEvent(spongeEventData);
-        } else if (spongeEvent instanceof InteractEntityEvent.Secondary) {
-            return createAndPostEntityInteractEvent(spongeEventData);
-        } else if (spongeEvent instanceof NotifyNeighborBlockEvent) {
-            return createAndPostNeighborNotifyEvent(spongeEventData);
-        } else if (spongeEvent instanceof ChangeBlockEvent.Place) {
-            return createAndPostBlockPlaceEvent(spongeEventData);
-        } else if (spongeEvent instanceof ChangeBlockEvent.Pre) {
-            return createAndPostBlockBreakEvent(spongeEventData);
-        } else if (PlayerInteractEvent.class.isAssignableFrom(clazz)) {
-            if (spongeEvent instanceof InteractBlockEvent) {
-                return createAndPostPlayerInteractBlockEvent(spongeEventData);
-            }
-            if (spongeEvent instanceof InteractItemEvent.Secondary) {
-                return createAndPostPlayerInteractItemEvent(spongeEventData);
-            }
-        } else if (LivingDropsEvent.class.isAssignableFrom(clazz)) {
-            if (spongeEvent instanceof DropItemEvent.Destruct) {
-                final Object root = spongeEventData.getSpongeEvent().getSource();
-                if (root instanceof Player) {
-                    return createAndPostItemTossEvent(spongeEventData);
-                }
-                return createAndPostLivingDropsEventEvent(spongeEventData);
-            }
-        } else if (ItemTossEvent.class.isAssignableFrom(clazz)) {
-            if (spongeEvent instanceof DropItemEvent.Dispense) {
-                final Object root = spongeEvent.getSource();
-                if (root instanceof Player) {
-                    return createAndPostItemTossEvent(spongeEventData);
-                }
-            }
-        } else if (spongeEvent instanceof ClientConnectionEvent.Join) {
-            return createAndPostPlayerLoggedInEvent(spongeEventData);
-        } else if (spongeEvent instanceof ClientConnectionEvent.Disconnect) {
-            return createAndPostPlayerLoggedOutEvent(spongeEventData);
-        } else if (EntityJoinWorldEvent.class.isAssignableFrom(clazz)) {
-            return createAndPostEntityJoinWorldEvent(spongeEventData);
-        } else if (spongeEvent instanceof UnloadWorldEvent) {
-            return createAndPostWorldUnloadEvent(spongeEventData);
-        } else if (spongeEvent instanceof LoadWorldEvent) {
-            return createAndPostWorldLoadEvent(spongeEventData);
-        } else if (spongeEvent instanceof SaveWorldEvent) {
-            return createAndPostWorldSaveEvent(spongeEventData);
-        } else if (spongeEvent instanceof LoadChunkEvent) {
-            return createAndPostChunkLoadEvent(spongeEventData);
-        } else if (spongeEvent instanceof UnloadChunkEvent) {
-            return createAndPostChunkUnloadEvent(spongeEventData);
-        } else if (spongeEvent instanceof ExplosionEvent.Pre) {
-            return createAndPostExplosionEventPre(spongeEventData);
-        } else if (spongeEvent instanceof ExplosionEvent.Detonate) {
-            return createAndPostExplosionEventDetonate(spongeEventData);
-        } else if (spongeEvent instanceof FishingEvent.Stop) {
-            return createAndPostItemFishedEvent(spongeEventData);
-        } else if (spongeEvent instanceof UseItemStackEvent) {
-            return createAndPostLivingUseItemEvent(spongeEventData);
-        } else if (spongeEvent instanceof AdvancementEvent.Grant) {
-            return createAndPostAdvancementGrantEvent(spongeEventData);
-        } else if (spongeEvent instanceof RideEntityEvent) {
-            return createAndPostRideEntityEvent(spongeEventData);
+        final Class<? extends Event> spongeClass = spongeEventData.getSpongeEvent().getClass();
+        final Map<Class<?>, ForgeEventPoster> postersByForgeClass = posterByClass.get(spongeClass);
+        ForgeEventPoster poster = postersByForgeClass.get(clazz);
+        if (poster == null) {
+            // Only resolved once per pair of classes, the capturing lambda isn't created on every post
+            poster = postersByForgeClass.computeIfAbsent(clazz, forgeClass -> findPoster(spongeClass, forgeClass));
         }
-        return false;
+        return poster.createAndPost(spongeEventData);
     }
 
     private static boolean createAndPostRideEntityEvent(final SpongeToForgeEventData eventData) {
@@ -1053,4 +1061,45 @@ private static Tristate getTristateFromResult(final net.minecraftforge.fml.commo
 
         return Tristate.UNDEFINED;
     }
+
+    @FunctionalInterface
+    interface ForgeEventClassResolver {
+
+        @Nullable
+        Class<? extends net.minecraftforge.fml.common.eventhandler.Event> getForgeEventClass(Event spongeEvent);
+    }
+
+    @FunctionalInterface
+    interface ForgeEventPoster {
+
+        boolean createAndPost(SpongeToForgeEventData eventData);
+    }
+
+    /**
+     * Resolves the Forge event class fired for a Sponge event class, and its subclasses.
+     */
+    static final class ForgeEventConverter {
+
+        final Class<? extends Event> spongeClass;
+        final ForgeEventClassResolver resolver;
+
+        ForgeEventConverter(final Class<? extends Event> spongeClass, final ForgeEventClassResolver resolver) {
+            this.spongeClass = spongeClass;
+            this.resolver = resolver;
+        }
+    }
+
+    static final class ForgeEventPosterEntry {
+
+        final Class<? extends Event> spongeClass;
+        final Class<? extends net.minecraftforge.fml.common.eventhandler.Event> forgeClass;
+        final ForgeEventPoster poster;
+
+        ForgeEventPosterEntry(final Class<? extends Event> spongeClass,
+            final Class<? extends net.minecraftforge.fml.common.eventhandler.Event> forgeClass, final ForgeEventPoster poster) {
+            this.spongeClass = spongeClass;
+            this.forgeClass = forgeClass;
+            this.poster = poster;
+        }
+    }
 }
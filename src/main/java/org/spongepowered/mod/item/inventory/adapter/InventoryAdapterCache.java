@@ -0,0 +1,128 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.mod.item.inventory.adapter;
+
+import co.aikar.timings.Timing;
+import co.aikar.timings.Timings;
+import net.minecraft.tileentity.TileEntity;
+import org.spongepowered.common.item.inventory.adapter.InventoryAdapter;
+import org.spongepowered.common.relocate.co.aikar.timings.SpongeTimingsFactory;
+import org.spongepowered.mod.bridge.tileentity.TileEntityBridge_Forge;
+
+import java.util.function.Function;
+
+import javax.annotation.Nullable;
+
+/**
+ * Keeps the {@link InventoryAdapter} of a tile entity on the tile entity
+ * itself, along with the item handler or inventory it adapts. The adapter
+ * is reused for as long as the tile entity keeps exposing that same object
+ * with the same number of slots. It is replaced as soon as its capabilities
+ * hand out a different one, or the slot count changes, since the lens of the
+ * adapter is built for the slots present when it was created.
+ *
+ * <p>The hit and miss counts are reported in timings.</p>
+ */
+public final class InventoryAdapterCache {
+
+    @Nullable private static Timing hitTiming;
+    @Nullable private static Timing missTiming;
+
+    /**
+     * Gets the adapter of the given tile entity for the given inventory,
+     * creating it if the tile entity adapted something else before.
+     *
+     * @param tileEntity The tile entity
+     * @param inventory The item handler or inventory currently exposed by the tile entity
+     * @param slots The current number of slots of the inventory
+     * @param factory Creates the adapter when it is not cached
+     * @return The adapter
+     */
+    public static <T> InventoryAdapter get(final TileEntity tileEntity, final T inventory, final int slots,
+        final Function<T, InventoryAdapter> factory) {
+        final TileEntityBridge_Forge bridge = (TileEntityBridge_Forge) tileEntity;
+        @Nullable final Entry entry = bridge.forgeBridge$getCachedInventoryAdapter();
+        if (entry != null && entry.inventory == inventory && entry.slots == slots) {
+            if (Timings.isTimingsEnabled()) {
+                getHitTiming().startTimingIfSync().stopTimingIfSync();
+            }
+            return entry.adapter;
+        }
+        final InventoryAdapter adapter;
+        if (Timings.isTimingsEnabled()) {
+            try (final Timing timing = getMissTiming().startTimingIfSync()) {
+                adapter = factory.apply(inventory);
+            }
+        } else {
+            adapter = factory.apply(inventory);
+        }
+        bridge.forgeBridge$setCachedInventoryAdapter(new Entry(inventory, slots, adapter));
+        return adapter;
+    }
+
+    /**
+     * Drops the adapter kept by the given tile entity, for example when it
+     * is invalidated and its capabilities may change.
+     *
+     * @param tileEntity The tile entity
+     */
+    public static void invalidate(final TileEntity tileEntity) {
+        ((TileEntityBridge_Forge) tileEntity).forgeBridge$setCachedInventoryAdapter(null);
+    }
+
+    private static Timing getHitTiming() {
+        if (hitTiming == null) {
+            hitTiming = SpongeTimingsFactory.ofSafe("Inventory Adapter Cache - Hit");
+        }
+        return hitTiming;
+    }
+
+    private static Timing getMissTiming() {
+        if (missTiming == null) {
+            missTiming = SpongeTimingsFactory.ofSafe("Inventory Adapter Cache - Miss");
+        }
+        return missTiming;
+    }
+
+    /**
+     * An adapter and the object it adapts, published together so a reader
+     * never pairs an adapter with the wrong inventory.
+     */
+    public static final class Entry {
+
+        final Object inventory;
+        final int slots;
+        final InventoryAdapter adapter;
+
+        Entry(final Object inventory, final int slots, final InventoryAdapter adapter) {
+            this.inventory = inventory;
+            this.slots = slots;
+            this.adapter = adapter;
+        }
+    }
+
+    private InventoryAdapterCache() {
+    }
+}
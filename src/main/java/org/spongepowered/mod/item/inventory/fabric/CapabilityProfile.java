@@ -0,0 +1,158 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.mod.item.inventory.fabric;
+
+import net.minecraftforge.common.capabilities.ICapabilityProvider;
+import net.minecraftforge.items.CapabilityItemHandler;
+import net.minecraftforge.items.IItemHandler;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.annotation.Nullable;
+
+/**
+ * What we learned about how a modded class behaves as an inventory: whether
+ * it exposes an {@link IItemHandler} capability and whether it supports
+ * setting slots directly. Profiles are shared by all instances of a class and
+ * are safe to use from any thread.
+ *
+ * <p>Capability probes are only counted and timed while collection is
+ * enabled, so that looking up a handler costs no more than the probe itself
+ * otherwise.</p>
+ */
+public final class CapabilityProfile {
+
+    private static final Queue<CapabilityProfile> profiles = new ConcurrentLinkedQueue<>();
+    private static final ClassValue<CapabilityProfile> profileByClass = new ClassValue<CapabilityProfile>() {
+        @Override
+        protected CapabilityProfile computeValue(final Class<?> type) {
+            final CapabilityProfile profile = new CapabilityProfile(type.getName());
+            profiles.add(profile);
+            return profile;
+        }
+    };
+    private static volatile boolean collecting;
+
+    public static CapabilityProfile of(final Class<?> type) {
+        return profileByClass.get(type);
+    }
+
+    public static boolean isCollecting() {
+        return collecting;
+    }
+
+    /**
+     * Enables or disables collecting capability probe statistics.
+     *
+     * @param collect Whether to collect
+     */
+    public static void setCollecting(final boolean collect) {
+        collecting = collect;
+    }
+
+    /**
+     * Clears the collected capability probe statistics.
+     */
+    public static void reset() {
+        for (final CapabilityProfile profile : profiles) {
+            profile.probes.reset();
+            profile.probeNanos.reset();
+        }
+    }
+
+    private final String className;
+    private final LongAdder probes = new LongAdder();
+    private final LongAdder probeNanos = new LongAdder();
+    private volatile boolean exposesHandler;
+    private volatile boolean setStackSupported = true;
+
+    private CapabilityProfile(final String className) {
+        this.className = className;
+    }
+
+    /**
+     * Gets the item handler exposed by the given provider, which must be an
+     * instance of the class of this profile. The capability is always probed,
+     * since whether it is exposed can differ between instances of a class and
+     * change over the life of an instance.
+     *
+     * @param provider The capability provider
+     * @return The item handler, or null if none is exposed
+     */
+    @Nullable
+    public IItemHandler getItemHandler(final ICapabilityProvider provider) {
+        if (!collecting) {
+            return provider.getCapability(CapabilityItemHandler.ITEM_HANDLER_CAPABILITY, null);
+        }
+        final long start = System.nanoTime();
+        final IItemHandler itemHandler = provider.getCapability(CapabilityItemHandler.ITEM_HANDLER_CAPABILITY, null);
+        this.probeNanos.add(System.nanoTime() - start);
+        this.probes.increment();
+        if (itemHandler != null && !this.exposesHandler) {
+            this.exposesHandler = true;
+        }
+        return itemHandler;
+    }
+
+    public boolean supportsSetStack() {
+        return this.setStackSupported;
+    }
+
+    public void markSetStackUnsupported() {
+        this.setStackSupported = false;
+    }
+
+    /**
+     * Summarizes all profiles, the classes that spent the most time in
+     * capability lookups first.
+     *
+     * @return The summary lines
+     */
+    public static List<String> summarize() {
+        final List<CapabilityProfile> sorted = new ArrayList<>(profiles);
+        sorted.sort(Comparator.comparingLong((CapabilityProfile profile) -> profile.probeNanos.sum()).reversed());
+        final List<String> lines = new ArrayList<>(sorted.size());
+        for (final CapabilityProfile profile : sorted) {
+            final long probes = profile.probes.sum();
+            final StringBuilder line = new StringBuilder(profile.className)
+                .append(": probes=").append(probes)
+                .append(" avg=").append(probes == 0 ? 0 : profile.probeNanos.sum() / probes).append("ns");
+            if (probes != 0) {
+                line.append(profile.exposesHandler ? " exposes-handler" : " no-handler");
+            }
+            if (!profile.setStackSupported) {
+                line.append(" set-stack-unsupported");
+            }
+            lines.add(line.toString());
+        }
+        return lines;
+    }
+
+}
@@ -24,26 +24,19 @@
  */
 package org.spongepowered.mod.item.inventory.fabric;
 
-import com.google.common.collect.Sets;
-import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
 import net.minecraft.item.ItemStack;
 import net.minecraftforge.items.IItemHandler;
 import net.minecraftforge.items.IItemHandlerModifiable;
 import org.spongepowered.common.SpongeImpl;
-import org.spongepowered.common.item.inventory.fabric.InventoryTranslators;
-
-import java.util.HashSet;
-import java.util.Set;
 
 /**
  * Helper class - some IItemHandlers do not support all inventory operations.
  */
 public class IItemHandlerFabricUtil {
 
-    private static Set<Class<?>> setStackUnsupported = new ReferenceOpenHashSet<>();
-
     public static void setIItemHandlerStack(IItemHandler handler, int index, ItemStack stack) {
-        if (setStackUnsupported.contains(handler.getClass())) {
+        final CapabilityProfile profile = CapabilityProfile.of(handler.getClass());
+        if (!profile.supportsSetStack()) {
             return; // setting item is not always possible
         }
 
@@ -51,7 +44,7 @@ public static void setIItemHandlerStack(IItemHandler handler, int index, ItemSta
             try {
                 ((IItemHandlerModifiable) handler).setStackInSlot(index, stack);
             } catch (RuntimeException e) {
-                setStackUnsupported.add(handler.getClass());
+                profile.markSetStackUnsupported();
                 SpongeImpl.getLogger().warn("Modded Inventory refused setting slot. Sponge cannot handle modified slot transactions for this type of Inventory. " + handler.getClass());
             }
             return;
@@ -67,7 +60,7 @@ public static void setIItemHandlerStack(IItemHandler handler, int index, ItemSta
                 if (extracted.getCount() == 0) {
                     prev = handler.getStackInSlot(index);
                     if (!prev.isEmpty()) { // Mod refuses to extract items
-                        setStackUnsupported.add(handler.getClass());
+                        profile.markSetStackUnsupported();
                         SpongeImpl.getLogger().warn("Modded Inventory refused extraction. Sponge cannot handle modified slot transactions for this type of Inventory. " + handler.getClass());
                         return; // setting item is not possible - abort to prevent duplication
                     }
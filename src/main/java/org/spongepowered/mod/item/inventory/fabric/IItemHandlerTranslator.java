@@ -75,8 +75,11 @@ public int getSize(IItemHandler inventory) {
     @Override
     public void clear(IItemHandler inventory) {
         if (inventory instanceof IItemHandlerModifiable) {
-            for (int i = 0; i < inventory.getSlots(); i++) {
-                ((IItemHandlerModifiable) inventory).setStackInSlot(i, ItemStack.EMPTY);
+            // Only touch slots holding items, setting a slot usually marks the handler as changed
+            try (final ItemHandlerSnapshot snapshot = ItemHandlerSnapshot.of(inventory)) {
+                for (int i = snapshot.nextNonEmpty(0); i != -1; i = snapshot.nextNonEmpty(i + 1)) {
+                    ((IItemHandlerModifiable) inventory).setStackInSlot(i, ItemStack.EMPTY);
+                }
             }
         }
     }
@@ -0,0 +1,114 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.mod.item.inventory.fabric;
+
+import net.minecraft.item.ItemStack;
+import net.minecraftforge.items.IItemHandler;
+
+import java.util.Arrays;
+
+/**
+ * The stacks of an {@link IItemHandler}, read in a single pass into a buffer
+ * that is reused per thread. The stacks are the instances held by the handler
+ * and must not be modified.
+ *
+ * <pre>{@code
+ * try (ItemHandlerSnapshot snapshot = ItemHandlerSnapshot.of(handler)) {
+ *     ...
+ * }
+ * }</pre>
+ */
+public final class ItemHandlerSnapshot implements AutoCloseable {
+
+    private static final ThreadLocal<ItemHandlerSnapshot> buffers = ThreadLocal.withInitial(ItemHandlerSnapshot::new);
+
+    /**
+     * Reads all slots of the given handler. The snapshot must be closed once
+     * it is no longer used.
+     *
+     * @param handler The item handler
+     * @return The snapshot
+     */
+    public static ItemHandlerSnapshot of(final IItemHandler handler) {
+        ItemHandlerSnapshot snapshot = buffers.get();
+        if (snapshot.inUse) {
+            // Nested use on the same thread, don't clobber the outer snapshot
+            snapshot = new ItemHandlerSnapshot();
+        }
+        snapshot.read(handler);
+        return snapshot;
+    }
+
+    private ItemStack[] stacks = new ItemStack[27];
+    private int size;
+    private boolean inUse;
+
+    private ItemHandlerSnapshot() {
+    }
+
+    private void read(final IItemHandler handler) {
+        final int slots = handler.getSlots();
+        if (this.stacks.length < slots) {
+            this.stacks = new ItemStack[Math.max(slots, this.stacks.length * 2)];
+        }
+        for (int i = 0; i < slots; i++) {
+            this.stacks[i] = handler.getStackInSlot(i);
+        }
+        this.size = slots;
+        this.inUse = true;
+    }
+
+    public int size() {
+        return this.size;
+    }
+
+    public ItemStack get(final int slot) {
+        return this.stacks[slot];
+    }
+
+    /**
+     * Gets the first slot from the given one onwards that holds items.
+     *
+     * @param from The first slot to check
+     * @return The slot, or -1 if all remaining slots are empty
+     */
+    public int nextNonEmpty(final int from) {
+        for (int i = from; i < this.size; i++) {
+            if (!this.stacks[i].isEmpty()) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public void close() {
+        // Don't keep the stacks of the handler alive
+        Arrays.fill(this.stacks, 0, this.size, null);
+        this.size = 0;
+        this.inUse = false;
+    }
+
+}
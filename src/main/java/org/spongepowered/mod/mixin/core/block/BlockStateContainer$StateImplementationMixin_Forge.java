@@ -0,0 +1,81 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.mod.mixin.core.block;
+
+import net.minecraft.block.state.BlockStateContainer;
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.IBlockAccess;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.mod.bridge.block.BlockBridge_Forge;
+import org.spongepowered.mod.bridge.block.BlockStateBridge_Forge;
+
+/**
+ * Caches the light value and opacity of states whose blocks don't override
+ * the location aware Forge methods, so lighting doesn't go through the block
+ * for every lookup.
+ */
+@Mixin(BlockStateContainer.StateImplementation.class)
+public abstract class BlockStateContainer$StateImplementationMixin_Forge implements BlockStateBridge_Forge {
+
+    private static final int UNKNOWN = -2;
+    private static final int LOCATION_DEPENDENT = -1;
+
+    private int forgeImpl$lightValue = UNKNOWN;
+    private int forgeImpl$lightOpacity = UNKNOWN;
+
+    @SuppressWarnings("deprecation")
+    @Override
+    public int forgeBridge$getLightValue(final IBlockAccess world, final BlockPos pos) {
+        int lightValue = this.forgeImpl$lightValue;
+        if (lightValue == UNKNOWN) {
+            final IBlockState state = (IBlockState) this;
+            lightValue = ((BlockBridge_Forge) state.getBlock()).forgeBridge$requiresLocationCheckForLightValue()
+                ? LOCATION_DEPENDENT : state.getLightValue();
+            this.forgeImpl$lightValue = lightValue;
+        }
+        return lightValue == LOCATION_DEPENDENT ? ((IBlockState) this).getLightValue(world, pos) : lightValue;
+    }
+
+    @Override
+    public int forgeBridge$getLightOpacity(final IBlockAccess world, final BlockPos pos) {
+        final int lightOpacity = this.forgeBridge$getConstantLightOpacity();
+        return lightOpacity == LOCATION_DEPENDENT ? ((IBlockState) this).getLightOpacity(world, pos) : lightOpacity;
+    }
+
+    @SuppressWarnings("deprecation")
+    @Override
+    public int forgeBridge$getConstantLightOpacity() {
+        int lightOpacity = this.forgeImpl$lightOpacity;
+        if (lightOpacity == UNKNOWN) {
+            final IBlockState state = (IBlockState) this;
+            lightOpacity = ((BlockBridge_Forge) state.getBlock()).forgeBridge$requiresLocationCheckForOpacity()
+                ? LOCATION_DEPENDENT : state.getLightOpacity();
+            this.forgeImpl$lightOpacity = lightOpacity;
+        }
+        return lightOpacity;
+    }
+
+}
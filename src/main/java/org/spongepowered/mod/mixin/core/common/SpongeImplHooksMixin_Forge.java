@@ -78,7 +78,6 @@
 import net.minecraftforge.fml.common.eventhandler.Event;
 import net.minecraftforge.fml.common.registry.ForgeRegistries;
 import net.minecraftforge.fml.common.registry.VillagerRegistry;
-import net.minecraftforge.items.CapabilityItemHandler;
 import net.minecraftforge.items.IItemHandler;
 import net.minecraftforge.items.wrapper.InvWrapper;
 import org.apache.logging.log4j.Level;
@@ -123,7 +122,7 @@
 import org.spongepowered.common.util.Constants;
 import org.spongepowered.common.util.SpawnerSpawnType;
 import org.spongepowered.common.util.TristateUtil;
-import org.spongepowered.mod.bridge.block.BlockBridge_Forge;
+import org.spongepowered.mod.bridge.block.BlockStateBridge_Forge;
 import org.spongepowered.mod.bridge.event.EventBusBridge_Forge;
 import org.spongepowered.mod.bridge.item.ItemStackBridge_Forge;
 import org.spongepowered.mod.bridge.registry.VillagerProfessionBridge_Forge;
@@ -131,6 +130,8 @@
 import org.spongepowered.mod.event.SpongeModEventManager;
 import org.spongepowered.mod.event.SpongeToForgeEventData;
 import org.spongepowered.mod.item.inventory.adapter.IItemHandlerAdapter;
+import org.spongepowered.mod.item.inventory.adapter.InventoryAdapterCache;
+import org.spongepowered.mod.item.inventory.fabric.CapabilityProfile;
 import org.spongepowered.mod.mixin.core.fml.common.registry.VillagerRegistryAccessor;
 import org.spongepowered.mod.plugin.SpongeModPluginContainer;
 import org.spongepowered.mod.util.StaticMixinForgeHelper;
@@ -322,7 +323,7 @@ public static boolean isBlockFlammable(final Block block, final IBlockAccess wor
      */
     @Overwrite
     public static int getBlockLightOpacity(final IBlockState state, final IBlockAccess world, final BlockPos pos) {
-        return state.getLightOpacity(world, pos);
+        return ((BlockStateBridge_Forge) state).forgeBridge$getLightOpacity(world, pos);
     }
 
     /**
@@ -330,12 +331,8 @@ public static int getBlockLightOpacity(final IBlockState state, final IBlockAcce
      * @reason Forge compatibility
      */
     @Overwrite
-    @SuppressWarnings("deprecation")
     public static int getChunkPosLight(final IBlockState blockState, final net.minecraft.world.World worldObj, final BlockPos pos) {
-        if (((BlockBridge_Forge) blockState.getBlock()).forgeBridge$requiresLocationCheckForLightValue()) {
-            return blockState.getLightValue(worldObj, pos);
-        }
-        return blockState.getLightValue();
+        return ((BlockStateBridge_Forge) blockState).forgeBridge$getLightValue(worldObj, pos);
     }
 
     // Tile entity
@@ -677,7 +674,11 @@ public static PluginContainer getActiveModContainer() {
      */
     @Overwrite
     public static Text getAdditionalCommandDescriptions() {
-        return Text.of(SpongeCommandFactory.INDENT, SpongeCommandFactory.title("mods"), SpongeCommandFactory.LONG_INDENT, "List currently installed mods");
+        return Text.of(SpongeCommandFactory.INDENT, SpongeCommandFactory.title("mods"), SpongeCommandFactory.LONG_INDENT, "List currently installed mods", Text.NEW_LINE,
+            SpongeCommandFactory.INDENT, SpongeCommandFactory.title("bridgemetrics"), SpongeCommandFactory.LONG_INDENT,
+            "Toggle or show the metrics of the Forge/Sponge event bridge", Text.NEW_LINE,
+            SpongeCommandFactory.INDENT, SpongeCommandFactory.title("capabilities"), SpongeCommandFactory.LONG_INDENT,
+            "Show how modded classes expose inventory capabilities");
     }
 
     /**
@@ -687,6 +688,8 @@ public static Text getAdditionalCommandDescriptions() {
     @Overwrite
     public static void registerAdditionalCommands(final ChildCommandElementExecutor flagChildren, final ChildCommandElementExecutor nonFlagChildren) {
         nonFlagChildren.register(SpongeForgeCommandFactory.createSpongeModsCommand(), "mods");
+        nonFlagChildren.register(SpongeForgeCommandFactory.createSpongeBridgeMetricsCommand(), "bridgemetrics");
+        nonFlagChildren.register(SpongeForgeCommandFactory.createSpongeCapabilitiesCommand(), "capabilities");
     }
 
     /**
@@ -711,7 +714,7 @@ public static Inventory toInventory(final Object inventory, @Nullable final Obje
 
         // Prefer forge IItemHandler for interaction with modded inventory
         if (inventory instanceof ICapabilityProvider) {
-            IItemHandler itemHandler = ((ICapabilityProvider) inventory).getCapability(CapabilityItemHandler.ITEM_HANDLER_CAPABILITY, null);
+            IItemHandler itemHandler = CapabilityProfile.of(inventory.getClass()).getItemHandler((ICapabilityProvider) inventory);
             if (itemHandler != null) {
                 return (Inventory) itemHandler;
             }
@@ -733,26 +736,45 @@ public static Inventory toInventory(final Object inventory, @Nullable final Obje
     @SuppressWarnings("ConstantConditions")
     @Overwrite
     public static InventoryAdapter findInventoryAdapter(final Object inventory) {
-
         // If the inventory provides a IItemHandler take that one first
         if (inventory instanceof ICapabilityProvider) {
-            IItemHandler itemHandler = ((ICapabilityProvider) inventory).getCapability(CapabilityItemHandler.ITEM_HANDLER_CAPABILITY, null);
+            IItemHandler itemHandler = CapabilityProfile.of(inventory.getClass()).getItemHandler((ICapabilityProvider) inventory);
             if (itemHandler instanceof InventoryAdapter) {
                 return (InventoryAdapter) itemHandler;
             }
+            // Tile entities keep their adapter for as long as they expose the same handler with the same slots
+            if (inventory instanceof TileEntity && !((TileEntity) inventory).isInvalid()) {
+                return itemHandler != null
+                    ? InventoryAdapterCache.get((TileEntity) inventory, itemHandler, itemHandler.getSlots(), IItemHandlerAdapter::new)
+                    : InventoryAdapterCache.get((TileEntity) inventory, inventory, forgeImpl$getSlots(inventory),
+                        inv -> forgeImpl$adaptInventory(inv));
+            }
             if (itemHandler != null) {
-                return new IItemHandlerAdapter(itemHandler); // TODO caching?
+                return new IItemHandlerAdapter(itemHandler);
             }
         }
+        return forgeImpl$adaptInventory(inventory);
+    }
+
+    private static int forgeImpl$getSlots(final Object inventory) {
+        if (inventory instanceof IItemHandler) {
+            return ((IItemHandler) inventory).getSlots();
+        }
+        if (inventory instanceof IInventory) {
+            return ((IInventory) inventory).getSizeInventory();
+        }
+        return -1;
+    }
 
+    private static InventoryAdapter forgeImpl$adaptInventory(final Object inventory) {
         // If the inventory directly implements IItemHandler we have to wrap it to get an adapter
         if (inventory instanceof IItemHandler) {
-            return new IItemHandlerAdapter((IItemHandler) inventory); // TODO caching?
+            return new IItemHandlerAdapter((IItemHandler) inventory);
         }
 
         // If the inventory directly implements IInventory we wrap in in an InvWrapper
         if (inventory instanceof IInventory) {
-            return (InventoryAdapter) new InvWrapper((IInventory) inventory); // TODO caching?
+            return (InventoryAdapter) new InvWrapper((IInventory) inventory);
         }
 
         // This should never happen
@@ -771,6 +793,7 @@ public static void onTileEntityInvalidate(final TileEntity te) {
             o.buildAndSwitch();
             te.invalidate();
         }
+        InventoryAdapterCache.invalidate(te);
     }
 
     /**
@@ -53,10 +53,18 @@
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Overwrite;
 import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
 import org.spongepowered.common.SpongeImpl;
 import org.spongepowered.common.bridge.entity.player.EntityPlayerMPBridge;
 import org.spongepowered.common.mixin.core.server.MinecraftServerAccessor;
 import org.spongepowered.common.world.WorldManager;
+import org.spongepowered.mod.util.OptimizationFlags;
+import org.spongepowered.mod.world.DimensionTable;
+import org.spongepowered.mod.world.LevelDataPrefetch;
+import org.spongepowered.mod.world.WorldLeakDetector;
 
 import java.nio.file.Path;
 import java.util.Map;
@@ -183,6 +191,7 @@ public static void registerDimension(int dimensionId, DimensionType type) {
         if (dimensionId >= 0) {
             usedDimensionIds.add(dimensionId);
         }
+        DimensionTable.publish(worldByDimensionId, dimensionTypeByDimensionId);
     }
 
     /**
@@ -212,5 +221,39 @@ public static void unregisterDimension(int dimensionId) {
         }
         worldByDimensionId.remove(dimensionId);
         worldFolderByDimensionId.remove(dimensionId);
+        DimensionTable.publish(worldByDimensionId, dimensionTypeByDimensionId);
+    }
+
+    @Inject(method = {"forceAddWorld", "loadAllWorlds", "registerVanillaTypesAndDimensions", "loadDimensionDataMap"}, at = @At("RETURN"))
+    private static void forgeImpl$publishDimensionTable(final CallbackInfo ci) {
+        DimensionTable.publish(worldByDimensionId, dimensionTypeByDimensionId);
+    }
+
+    @Inject(method = "loadAllWorlds", at = @At("HEAD"))
+    private static void forgeImpl$prefetchLevelData(final CallbackInfo ci) {
+        // The saves directory of an integrated server is the folder of all singleplayer saves, not of the loaded one
+        if (OptimizationFlags.PARALLEL_LEVEL_DATA_LOADING && SpongeImpl.getServer().isDedicatedServer()) {
+            WorldManager.getCurrentSavesDirectory()
+                .ifPresent(savesDirectory -> LevelDataPrefetch.start(savesDirectory, SpongeImpl.getServer().getDataFixer()));
+        }
+    }
+
+    @Inject(method = "loadAllWorlds", at = @At("RETURN"))
+    private static void forgeImpl$stopLevelDataPrefetch(final CallbackInfo ci) {
+        LevelDataPrefetch.stop();
+    }
+
+    @Inject(method = "loadWorld*", at = @At("RETURN"))
+    private static void forgeImpl$publishDimensionTableOnLoad(final CallbackInfoReturnable<Optional<WorldServer>> cir) {
+        DimensionTable.publish(worldByDimensionId, dimensionTypeByDimensionId);
+    }
+
+    @Inject(method = "unloadWorld", at = @At("RETURN"))
+    private static void forgeImpl$onUnloadWorld(final WorldServer worldServer, final boolean checkConfig, final boolean isShuttingDown,
+        final CallbackInfoReturnable<Boolean> cir) {
+        DimensionTable.publish(worldByDimensionId, dimensionTypeByDimensionId);
+        if (cir.getReturnValue() && !isShuttingDown) {
+            WorldLeakDetector.onWorldUnloaded(worldServer);
+        }
     }
 }
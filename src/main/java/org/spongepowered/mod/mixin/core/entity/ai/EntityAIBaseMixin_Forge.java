@@ -25,21 +25,15 @@
 package org.spongepowered.mod.mixin.core.entity.ai;
 
 import net.minecraft.entity.ai.EntityAIBase;
-import net.minecraftforge.fml.common.Loader;
 import org.spongepowered.api.entity.ai.task.AITask;
-import org.spongepowered.api.entity.ai.task.AITaskType;
 import org.spongepowered.api.entity.ai.task.AbstractAITask;
 import org.spongepowered.api.entity.living.Agent;
-import org.spongepowered.api.plugin.PluginContainer;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
-import org.spongepowered.common.SpongeImpl;
 import org.spongepowered.common.bridge.entity.ai.EntityAIBasesBridge;
-import org.spongepowered.common.registry.type.entity.AITaskTypeModule;
-
-import java.util.Optional;
+import org.spongepowered.mod.entity.AITaskTypeCache;
 
 @Mixin(value = EntityAIBase.class, priority = 1001)
 public abstract class EntityAIBaseMixin_Forge {
@@ -55,18 +49,6 @@ public abstract class EntityAIBaseMixin_Forge {
         if (AbstractAITask.class.isAssignableFrom(getClass())) {
             return;
         }
-        // Handle adding mod/un-implemented Minecraft tasks.
-        final Optional<AITaskType> optModType = AITaskTypeModule.getInstance().getByAIClass(getClass());
-        if (!optModType.isPresent()) {
-            PluginContainer container = (PluginContainer) Loader.instance().activeModContainer();
-            // FML couldn't figure out the mod...give the task to Minecraft
-            if (container == null) {
-                // May need to log this...
-                container = SpongeImpl.getMinecraftPlugin();
-            }
-            final String idAndName = getClass().getSimpleName();
-            ((EntityAIBasesBridge) this).bridge$setType(AITaskTypeModule.getInstance().createAITaskType(container, idAndName, idAndName,
-                    (Class<? extends AITask<? extends Agent>>) getClass()));
-        }
+        ((EntityAIBasesBridge) this).bridge$setType(AITaskTypeCache.get(getClass()));
     }
 }
@@ -34,11 +34,6 @@
 import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
 import net.minecraft.world.World;
 import net.minecraftforge.event.AttachCapabilitiesEvent;
-import net.minecraftforge.event.entity.EntityEvent;
-import net.minecraftforge.event.entity.living.LivingDropsEvent;
-import net.minecraftforge.event.world.GetCollisionBoxesEvent;
-import net.minecraftforge.event.world.WorldEvent;
-import net.minecraftforge.fluids.FluidRegistry;
 import net.minecraftforge.fml.common.ModContainer;
 import net.minecraftforge.fml.common.eventhandler.Event;
 import net.minecraftforge.fml.common.eventhandler.EventBus;
@@ -47,8 +42,6 @@
 import net.minecraftforge.fml.common.eventhandler.IEventListener;
 import net.minecraftforge.fml.common.eventhandler.ListenerList;
 import net.minecraftforge.fml.common.gameevent.TickEvent;
-import net.minecraftforge.fml.relauncher.Side;
-import net.minecraftforge.oredict.OreDictionary;
 import org.spongepowered.api.Sponge;
 import org.spongepowered.api.util.annotation.NonnullByDefault;
 import org.spongepowered.asm.mixin.Final;
@@ -68,6 +61,8 @@
 import org.spongepowered.mod.SpongeModPlatform;
 import org.spongepowered.mod.bridge.event.ASMEventHandlerBridge;
 import org.spongepowered.mod.bridge.event.EventBusBridge_Forge;
+import org.spongepowered.mod.event.BridgeMetrics;
+import org.spongepowered.mod.event.ForgeEventVerdict;
 import org.spongepowered.mod.event.ForgeToSpongeEventData;
 import org.spongepowered.mod.event.ForgeToSpongeEventFactory;
 import org.spongepowered.mod.event.SpongeModEventManager;
@@ -149,45 +144,13 @@ public abstract class EventBusMixin_Forge implements EventBusBridge_Forge {
         return null;
     }
 
-    // Events that should not be posted on the event bus
-    private boolean forgeImpl$isEventAllowed(final Event event) {
-        if (event instanceof LivingDropsEvent) {
-            return false;
-        } else if (event instanceof WorldEvent.Save) {
-            return false;
-        } else if (event instanceof WorldEvent.Unload) {
-            return false;
-        }
-
-        return true;
-    }
-
     private boolean forgeImpl$isClientPlatform() {
         // This can be called before Sponge is initialied, so use this hack
         return SpongeModPlatform.staticGetExecutionType().isClient();
     }
 
     private boolean forgeImpl$isIgnoredEvent(final Event event) {
-        if (event instanceof TickEvent && ((TickEvent) event).side == Side.CLIENT) {
-            return true;
-        }
-        if (event instanceof EntityEvent.CanUpdate) {
-            return true;
-        }
-        if (event instanceof GetCollisionBoxesEvent) {
-            return true;
-        }
-        if (event instanceof AttachCapabilitiesEvent) {
-            return true;
-        }
-        if (event instanceof OreDictionary.OreRegisterEvent) {
-            return true;
-        }
-        if (event instanceof FluidRegistry.FluidRegisterEvent) {
-            return true;
-        }
-
-        return SpongeImplHooks.isEventClientEvent(event);
+        return ForgeEventVerdict.of(event).isIgnored(event);
     }
 
     private boolean forgeImpl$isTimedEvent(final Event event) {
@@ -215,21 +178,29 @@ public boolean post(final Event event) {
 
     @Override
     public boolean forgeBridge$post(final Event event, final boolean forced) {
-        Class<? extends org.spongepowered.api.event.Event> spongeEventClass = null;
-
         final IEventListener[] listeners = event.getListenerList().getListeners(this.busID);
-        if (!forced && SpongeImpl.isInitialized() && SpongeImplHooks.isMainThread() && !forgeImpl$isIgnoredEvent(event)) {
-            if (!forgeImpl$isEventAllowed(event)) {
-                return false;
-            }
+        if (!forced && SpongeImpl.isInitialized() && SpongeImplHooks.isMainThread()) {
+            final ForgeEventVerdict verdict = ForgeEventVerdict.of(event);
+            if (!verdict.isIgnored(event)) {
+                if (!verdict.isAllowed()) {
+                    return false;
+                }
 
-            spongeEventClass = ForgeToSpongeEventFactory.getSpongeClass(event);
-            if (spongeEventClass != null) {
-                final RegisteredListener.Cache listenerCache = ((SpongeModEventManager) Sponge.getEventManager()).getHandlerCache(spongeEventClass);
-                if (!listenerCache.getListeners().isEmpty()) {
-                    final ForgeToSpongeEventData forgeEventData = new ForgeToSpongeEventData(event, listeners);
-                    forgeEventData.setSpongeListenerCache(listenerCache);
-                    return ((SpongeModEventManager) SpongeImpl.getGame().getEventManager()).post(forgeEventData);
+                final SpongeModEventManager manager = (SpongeModEventManager) Sponge.getEventManager();
+                final RegisteredListener.Cache listenerCache = verdict.getBridgedListeners(event, manager);
+                if (listenerCache != null) {
+                    final BridgeMetrics.Sample sample = BridgeMetrics.begin();
+                    final ForgeToSpongeEventData forgeEventData;
+                    try {
+                        forgeEventData = new ForgeToSpongeEventData(event, listeners);
+                        forgeEventData.setSpongeListenerCache(listenerCache);
+                    } finally {
+                        if (sample != null) {
+                            // Converted for the first listener, any later ones reuse the event data
+                            sample.end(BridgeMetrics.Stage.CONVERSION, event.getClass(), listenerCache.getListeners().get(0).getPlugin().getId());
+                        }
+                    }
+                    return manager.post(forgeEventData);
                 }
             }
         }
@@ -239,6 +210,8 @@ public boolean post(final Event event) {
             for (; index < listeners.length; index++) {
                 final IEventListener listener = listeners[index];
                 if (SpongeImpl.isInitialized() && listener instanceof ASMEventHandlerBridge) {
+                    final ModContainer container = ((ASMEventHandlerBridge) listener).forgeBridge$getContainer();
+                    final BridgeMetrics.Sample phaseSample = BridgeMetrics.begin();
                     // Set up the timing object, since it's a try with resources, it'll always close
                     // Likewise, the PhaseContext for GeneralListener will be enabled
                     // Note: As per JLS 14.20.3, the resources are closed in the opposite order in which they are initialized
@@ -250,10 +223,25 @@ public boolean post(final Event event) {
                         if (context != null) {
                             context.buildAndSwitch();
                         }
+                        if (phaseSample != null) {
+                            phaseSample.end(BridgeMetrics.Stage.PHASE_SWITCH, event.getClass(), container == null ? null : container.getModId());
+                        }
                         if (timing != null) {
                             timing.startTimingIfSync();
                         }
-                        listener.invoke(event);
+                        final BridgeMetrics.Sample listenerSample = BridgeMetrics.begin();
+                        try {
+                            listener.invoke(event);
+                        } finally {
+                            if (listenerSample != null) {
+                                listenerSample.end(BridgeMetrics.Stage.LISTENER, event.getClass(), container == null ? null : container.getModId());
+                            }
+                        }
+                    } finally {
+                        // Only ends the phase sample if switching the phase failed
+                        if (phaseSample != null) {
+                            phaseSample.end(BridgeMetrics.Stage.PHASE_SWITCH, event.getClass(), container == null ? null : container.getModId());
+                        }
                     }
                 } else {
                     listener.invoke(event);
@@ -109,14 +109,17 @@ public static PlayerInteractEvent.LeftClickBlock onLeftClickBlock(
             return evt;
         }
 
-        final ItemStack stack = player.getHeldItemMainhand();
-        final BlockSnapshot blockSnapshot = new Location<>((World) player.world, VecHelper.toVector3d(pos)).createSnapshot();
-        final RayTraceResult result = SpongeImplHooks.rayTraceEyes(player, SpongeImplHooks.getBlockReachDistance((EntityPlayerMP) player));
-        final Vector3d vec = result == null ? null : VecHelper.toVector3d(result.hitVec);
-        if (SpongeCommonEventFactory.callInteractItemEventPrimary(player, stack, EnumHand.MAIN_HAND, vec, blockSnapshot).isCancelled()) {
-            ((EntityPlayerMPBridge) player).bridge$sendBlockChange(pos, player.world.getBlockState(pos));
-            evt.setCanceled(true);
-            return evt;
+        // The snapshot and ray trace are only needed by the Sponge event, skip them when nothing listens for it
+        if (ShouldFire.INTERACT_ITEM_EVENT_PRIMARY) {
+            final ItemStack stack = player.getHeldItemMainhand();
+            final BlockSnapshot blockSnapshot = new Location<>((World) player.world, VecHelper.toVector3d(pos)).createSnapshot();
+            final RayTraceResult result = SpongeImplHooks.rayTraceEyes(player, SpongeImplHooks.getBlockReachDistance((EntityPlayerMP) player));
+            final Vector3d vec = result == null ? null : VecHelper.toVector3d(result.hitVec);
+            if (SpongeCommonEventFactory.callInteractItemEventPrimary(player, stack, EnumHand.MAIN_HAND, vec, blockSnapshot).isCancelled()) {
+                ((EntityPlayerMPBridge) player).bridge$sendBlockChange(pos, player.world.getBlockState(pos));
+                evt.setCanceled(true);
+                return evt;
+            }
         }
 
         MinecraftForge.EVENT_BUS.post(evt);
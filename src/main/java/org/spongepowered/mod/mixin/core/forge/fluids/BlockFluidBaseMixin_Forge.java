@@ -29,8 +29,8 @@
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.IBlockAccess;
+import net.minecraft.world.World;
 import net.minecraftforge.fluids.BlockFluidBase;
-import org.spongepowered.api.event.block.ChangeBlockEvent;
 import org.spongepowered.asm.mixin.Final;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Shadow;
@@ -40,10 +40,9 @@
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
 import org.spongepowered.asm.mixin.injection.callback.LocalCapture;
 import org.spongepowered.common.event.ShouldFire;
-import org.spongepowered.common.event.SpongeCommonEventFactory;
 import org.spongepowered.common.bridge.block.BlockBridge;
 import org.spongepowered.common.bridge.world.WorldBridge;
-import org.spongepowered.common.bridge.world.WorldServerBridge;
+import org.spongepowered.mod.event.FluidFlowEvents;
 import org.spongepowered.mod.mixin.core.block.BlockMixin_Forge;
 
 import java.util.Map;
@@ -69,8 +68,7 @@ private Object getDisplacementWithSponge(final Map<?, ?> map, final Object key,
         if (!((Boolean) map.get(key))) {
             return Boolean.FALSE;
         }
-        final ChangeBlockEvent.Pre event = SpongeCommonEventFactory.callChangeBlockEventPre((WorldServerBridge) world, pos);
-        if (event.isCancelled()) {
+        if (FluidFlowEvents.isPreCancelled((World) world, pos)) {
             return Boolean.FALSE;
         }
         return Boolean.TRUE;
@@ -91,8 +89,7 @@ private void onSpongeInjectFailEvent(final IBlockAccess world, final BlockPos po
         if (!ShouldFire.CHANGE_BLOCK_EVENT_PRE || ((WorldBridge) world).bridge$isFake()) {
             return;
         }
-        final ChangeBlockEvent.Pre event = SpongeCommonEventFactory.callChangeBlockEventPre((WorldServerBridge) world, pos);
-        if (event.isCancelled()) {
+        if (FluidFlowEvents.isPreCancelled((World) world, pos)) {
             cir.setReturnValue(false);
         }
     }
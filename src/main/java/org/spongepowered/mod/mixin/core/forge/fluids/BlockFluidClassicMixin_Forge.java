@@ -48,6 +48,7 @@
 import org.spongepowered.common.event.tracking.IPhaseState;
 import org.spongepowered.common.event.tracking.PhaseContext;
 import org.spongepowered.common.event.tracking.PhaseTracker;
+import org.spongepowered.mod.event.FluidFlowEvents;
 
 import java.util.Random;
 import java.util.function.BiConsumer;
@@ -68,7 +69,7 @@ public abstract class BlockFluidClassicMixin_Forge extends BlockFluidBaseMixin_F
     )
     private void onUpdateTickCheckSpongePre(final World world, final BlockPos pos, final IBlockState state, final Random rand, final CallbackInfo ci) {
         if (!((WorldBridge) world).bridge$isFake() && ShouldFire.CHANGE_BLOCK_EVENT_PRE) {
-            if (SpongeCommonEventFactory.callChangeBlockEventPre((WorldServerBridge) world, pos).isCancelled()) {
+            if (FluidFlowEvents.isPreCancelled(world, pos)) {
                 ci.cancel();
             }
         }
@@ -55,6 +55,7 @@
 import org.spongepowered.common.event.tracking.IPhaseState;
 import org.spongepowered.common.event.tracking.PhaseContext;
 import org.spongepowered.common.event.tracking.PhaseTracker;
+import org.spongepowered.mod.event.FluidFlowEvents;
 
 import java.util.Random;
 import java.util.UUID;
@@ -75,7 +76,7 @@ public abstract class BlockFluidFiniteMixin_Forge extends BlockFluidBaseMixin_Fo
     )
     private void checkBeforeTick(final World world, final BlockPos pos, final IBlockState state, final Random rand, final CallbackInfo ci) {
         if (!((WorldBridge) world).bridge$isFake() && ShouldFire.CHANGE_BLOCK_EVENT_PRE) {
-            if (SpongeCommonEventFactory.callChangeBlockEventPre((WorldServerBridge) world, pos).isCancelled()) {
+            if (FluidFlowEvents.isPreCancelled(world, pos)) {
                 ci.cancel();
             }
         }
@@ -188,7 +189,7 @@ private void setNewStateWithMaximumQuantaWhileFlowing(final World world, final B
         if (((WorldBridge) world).bridge$isFake() || !ShouldFire.CHANGE_BLOCK_EVENT_PRE) {
             return;
         }
-        if (SpongeCommonEventFactory.callChangeBlockEventPre((WorldServerBridge) world, other).isCancelled()) {
+        if (FluidFlowEvents.isPreCancelled(world, other)) {
             cir.setReturnValue(0);
         }
     }
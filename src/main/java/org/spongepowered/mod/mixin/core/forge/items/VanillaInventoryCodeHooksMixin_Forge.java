@@ -47,6 +47,8 @@
 import org.spongepowered.common.event.SpongeCommonEventFactory;
 import org.spongepowered.common.bridge.inventory.TrackedInventoryBridge;
 import org.spongepowered.common.item.inventory.util.InventoryUtil;
+import org.spongepowered.mod.event.InventoryTransferBatch;
+import org.spongepowered.mod.util.OptimizationFlags;
 
 import javax.annotation.Nullable;
 
@@ -80,8 +82,8 @@ private static void onExtractHook(final IHopper hopper, final CallbackInfoReturn
         if (ShouldFire.CHANGE_INVENTORY_EVENT_TRANSFER_PRE) {
             final IItemHandler itemHandler = itemHandlerResult.getKey();
             for (int i = 0; i < itemHandler.getSlots(); i++) {
-                // Find first item that can be extracted
-                if (!itemHandler.extractItem(i, 1, true).isEmpty()) {
+                // Find first item that can be extracted, empty slots never can
+                if (!itemHandler.getStackInSlot(i).isEmpty() && !itemHandler.extractItem(i, 1, true).isEmpty()) {
                     final Inventory source = InventoryUtil.toInventory(itemHandlerResult.getValue(), itemHandler);
                     if (source.totalItems() != 0) {
                         if (SpongeCommonEventFactory.callTransferPre(source, InventoryUtil.toInventory(hopper, null)).isCancelled()) {
@@ -166,7 +168,9 @@ private static void afterPutStackInSlots(final TileEntityHopper hopper, final Ca
                 final Inventory sInv = InventoryUtil.toInventory(hopper, null);
                 final Inventory dInv = InventoryUtil.toInventory(destination, itemHandler);
                 SpongeCommonEventFactory.captureTransaction(capture, sInv, i, originalSlotContents);
-                if (SpongeCommonEventFactory.callTransferPost(capture, sInv, dInv)) {
+                if (OptimizationFlags.BATCH_INVENTORY_TRANSFERS) {
+                    InventoryTransferBatch.defer(capture, sInv, dInv, hopper, destination == null ? itemHandler : destination);
+                } else if (SpongeCommonEventFactory.callTransferPost(capture, sInv, dInv)) {
                     if (originalSlotContents.isEmpty()) {
                         cir.setReturnValue(true);
                     }
@@ -180,6 +184,12 @@ private static void afterPutStackInSlots(final TileEntityHopper hopper, final Ca
     private static void onPullItemsDone(final IHopper dest, final CallbackInfoReturnable<Boolean> cir, final Pair<IItemHandler, Object> itemHandlerResult,
             final IItemHandler handler, final int i, final ItemStack extractItem, final int j, final ItemStack destStack) {
         if (ShouldFire.CHANGE_INVENTORY_EVENT_TRANSFER_POST) {
+            if (OptimizationFlags.BATCH_INVENTORY_TRANSFERS) {
+                final Object source = itemHandlerResult.getValue() == null ? handler : itemHandlerResult.getValue();
+                InventoryTransferBatch.defer(InventoryUtil.forCapture(dest), InventoryUtil.toInventory(itemHandlerResult.getValue(), handler),
+                    InventoryUtil.toInventory(dest, null), source, dest);
+                return;
+            }
             SpongeCommonEventFactory.callTransferPost(InventoryUtil.forCapture(dest), InventoryUtil.toInventory(itemHandlerResult.getValue(), handler), InventoryUtil.toInventory(dest, null));
         }
     }
@@ -195,7 +205,11 @@ private static void afterDispense(final World world, final BlockPos pos, final T
             final Inventory source = InventoryUtil.toInventory(dropper, null);
             final Inventory destInv = InventoryUtil.toInventory(destination, itemHandler);
             SpongeCommonEventFactory.captureTransaction(capture, source, slot, stack);
-            SpongeCommonEventFactory.callTransferPost(capture, source, destInv);
+            if (OptimizationFlags.BATCH_INVENTORY_TRANSFERS) {
+                InventoryTransferBatch.defer(capture, source, destInv, dropper, destination == null ? itemHandler : destination);
+            } else {
+                SpongeCommonEventFactory.callTransferPost(capture, source, destInv);
+            }
         }
     }
 
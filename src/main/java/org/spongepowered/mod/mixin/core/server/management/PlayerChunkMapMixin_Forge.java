@@ -0,0 +1,90 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.mod.mixin.core.server.management;
+
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import net.minecraft.server.management.PlayerChunkMap;
+import net.minecraft.server.management.PlayerChunkMapEntry;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.WorldServer;
+import net.minecraft.world.gen.ChunkProviderServer;
+import org.spongepowered.asm.mixin.Final;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.spongepowered.common.bridge.world.WorldServerBridge;
+import org.spongepowered.common.world.gen.SpongeChunkGenerator;
+import org.spongepowered.mod.util.OptimizationFlags;
+import org.spongepowered.mod.world.gen.SpongeChunkGeneratorForge;
+
+import java.util.Iterator;
+import java.util.List;
+
+@Mixin(PlayerChunkMap.class)
+public abstract class PlayerChunkMapMixin_Forge {
+
+    /**
+     * The most entries without chunks that a tick provides a chunk for.
+     */
+    private static final int FORGEIMPL$CHUNKS_PER_TICK = 50;
+
+    @Shadow @Final private List<PlayerChunkMapEntry> entriesWithoutChunks;
+    @Shadow public abstract WorldServer getWorldServer();
+
+    private final LongArrayList forgeImpl$terrainRequests = new LongArrayList();
+
+    /**
+     * Hands the chunks players are waiting for, which this tick goes on to
+     * load or generate, to the off thread terrain generation.
+     */
+    @Inject(method = "tick", at = @At("HEAD"))
+    private void forgeImpl$requestMissingTerrain(final CallbackInfo ci) {
+        if (!OptimizationFlags.ASYNC_CHUNK_GENERATION) {
+            return;
+        }
+        final WorldServer world = this.getWorldServer();
+        final SpongeChunkGenerator generator = ((WorldServerBridge) world).bridge$getSpongeGenerator();
+        if (!(generator instanceof SpongeChunkGeneratorForge) || !((SpongeChunkGeneratorForge) generator).canRequestTerrain()) {
+            return;
+        }
+        final SpongeChunkGeneratorForge forgeGenerator = (SpongeChunkGeneratorForge) generator;
+        final ChunkProviderServer chunkProvider = world.getChunkProvider();
+        final LongArrayList chunks = this.forgeImpl$terrainRequests;
+        chunks.clear();
+        // Only look at the entries this tick can reach
+        int remaining = FORGEIMPL$CHUNKS_PER_TICK;
+        for (final Iterator<PlayerChunkMapEntry> iterator = this.entriesWithoutChunks.iterator(); iterator.hasNext() && remaining-- > 0; ) {
+            final ChunkPos pos = iterator.next().getPos();
+            final long key = ChunkPos.asLong(pos.x, pos.z);
+            // Chunks that were generated before are only loaded
+            if (forgeGenerator.isTerrainRequested(key) || !chunkProvider.isChunkGeneratedAt(pos.x, pos.z)) {
+                chunks.add(key);
+            }
+        }
+        forgeGenerator.requestTerrain(chunks);
+    }
+}
@@ -35,20 +35,36 @@
 import org.spongepowered.common.SpongeImpl;
 import org.spongepowered.common.bridge.data.DataCompoundHolder;
 import org.spongepowered.common.event.tracking.PhaseTracker;
+import org.spongepowered.mod.bridge.tileentity.TileEntityBridge_Forge;
+import org.spongepowered.mod.item.inventory.adapter.InventoryAdapterCache;
 
 import java.util.Set;
 
+import javax.annotation.Nullable;
+
 @Mixin(TileEntity.class)
-public abstract class TileEntityMixin_Forge implements DataCompoundHolder {
+public abstract class TileEntityMixin_Forge implements DataCompoundHolder, TileEntityBridge_Forge {
 
     @Shadow(remap = false) private NBTTagCompound customTileData;
 
     @Shadow(remap = false) public abstract NBTTagCompound getTileData();
 
     private boolean forge$isGettingTileData = false;
+    @Nullable private volatile InventoryAdapterCache.Entry forgeImpl$inventoryAdapter;
     private static final Set<TileEntityType> FORGEIMPL$REPORTED_RECURSIVE_TILES = new ConcurrentSet<>();
 
 
+    @Nullable
+    @Override
+    public InventoryAdapterCache.Entry forgeBridge$getCachedInventoryAdapter() {
+        return this.forgeImpl$inventoryAdapter;
+    }
+
+    @Override
+    public void forgeBridge$setCachedInventoryAdapter(@Nullable final InventoryAdapterCache.Entry entry) {
+        this.forgeImpl$inventoryAdapter = entry;
+    }
+
     @Override
     public boolean data$hasRootCompound() {
         return this.customTileData != null;
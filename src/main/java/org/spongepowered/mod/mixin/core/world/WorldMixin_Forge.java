@@ -24,6 +24,8 @@
  */
 package org.spongepowered.mod.mixin.core.world;
 
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
 import net.minecraft.block.Block;
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.entity.player.EntityPlayer;
@@ -55,6 +57,7 @@
 import org.spongepowered.common.bridge.world.WorldBridge;
 import org.spongepowered.mod.bridge.world.WorldBridge_Forge;
 import org.spongepowered.mod.event.CapturedSnapshotWrapperList;
+import org.spongepowered.mod.service.world.ForcedChunkView;
 
 import javax.annotation.Nullable;
 
@@ -63,6 +66,8 @@
 public abstract class WorldMixin_Forge implements WorldBridge_Forge {
 
     private WorldInfo forgeImpl$redirectWorldInfo;
+    private final LongSet forgeImpl$forcedChunks = new LongOpenHashSet();
+    private final ForcedChunkView forgeImpl$forcedChunkView = new ForcedChunkView();
 
     @Shadow(remap = false) public java.util.ArrayList<net.minecraftforge.common.util.BlockSnapshot> capturedBlockSnapshots;
     @Shadow @Final public WorldProvider provider;
@@ -183,6 +188,16 @@ private int getRawLight(final BlockPos pos, final EnumSkyBlock lightType) {
         this.forgeImpl$redirectWorldInfo = info;
     }
 
+    @Override
+    public LongSet forgeBridge$getForcedChunks() {
+        return this.forgeImpl$forcedChunks;
+    }
+
+    @Override
+    public ForcedChunkView forgeBridge$getForcedChunkView() {
+        return this.forgeImpl$forcedChunkView;
+    }
+
     @Inject(method = "<init>", at = @At("RETURN"))
     private void onIniitToSetForgeList(final ISaveHandler saveHandlerIn, final WorldInfo info, final WorldProvider providerIn,
         final Profiler profilerIn, final boolean client, final CallbackInfo ci) {
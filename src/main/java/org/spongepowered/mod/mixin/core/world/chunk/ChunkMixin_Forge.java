@@ -44,6 +44,8 @@
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 import org.spongepowered.common.SpongeImplHooks;
 import org.spongepowered.common.bridge.world.chunk.ChunkBridge;
+import org.spongepowered.mod.bridge.block.BlockStateBridge_Forge;
+import org.spongepowered.mod.bridge.world.WorldBridge_Forge;
 
 @Mixin(value = Chunk.class, priority = 1001)
 public abstract class ChunkMixin_Forge implements ChunkBridge {
@@ -76,13 +78,7 @@ public abstract class ChunkMixin_Forge implements ChunkBridge {
     @Inject(method = "onLoad", at = @At("RETURN"))
     private void forgeImpl$updatePersistingChunks(final CallbackInfo ci) {
         if (!this.world.isRemote) {
-            for (final ChunkPos forced : this.world.getPersistentChunks().keySet()) {
-                if (forced.x == this.x && forced.z == this.z) {
-                    this.bridge$setPersistedChunk(true);
-                    return;
-                }
-            }
-            this.bridge$setPersistedChunk(false);
+            this.bridge$setPersistedChunk(((WorldBridge_Forge) this.world).forgeBridge$getForcedChunks().contains(ChunkPos.asLong(this.x, this.z)));
         }
     }
 
@@ -167,7 +163,7 @@ public int getBlockLightOpacity(final BlockPos pos) {
         // Sponge Start - Rewrite to use SpongeImplHooks
         // return this.getBlockState(pos).getLightOpacity(); // Vanilla
         // return this.getBlockState(pos).getLightOpacity(this.worldObj, pos); // Forge
-        return SpongeImplHooks.getChunkPosLight(this.getBlockState(pos), this.world, pos);
+        return SpongeImplHooks.getBlockLightOpacity(this.getBlockState(pos), this.world, pos);
     }
 
     /**
@@ -187,7 +183,12 @@ private int getBlockLightOpacity(final int x, final int y, final int z) {
         // Sponge Start - Rewrite to use SpongeImplHooks because, again, unecessary block state retrieval.
         // return this.getBlockState(x, y, z).getLightOpacity(); // Vanilla
         // return this.unloaded ? state.getLightOpacity() : state.getLightOpacity(this.worldObj, new BlockPos(x, y, z)); // Forge
-        return this.unloadQueued ? state.getLightOpacity() : SpongeImplHooks.getBlockLightOpacity(state, this.world, new BlockPos(x, y, z));
+        if (this.unloadQueued) {
+            return state.getLightOpacity();
+        }
+        // Only states with a position dependent opacity need the position
+        final int lightOpacity = ((BlockStateBridge_Forge) state).forgeBridge$getConstantLightOpacity();
+        return lightOpacity != -1 ? lightOpacity : SpongeImplHooks.getBlockLightOpacity(state, this.world, new BlockPos(x, y, z));
         // Sponge End
     }
 
@@ -32,6 +32,7 @@
 import net.minecraftforge.fml.common.FMLCommonHandler;
 import net.minecraftforge.fml.common.Loader;
 import net.minecraftforge.fml.common.ModContainer;
+import net.minecraftforge.fml.common.StartupQuery;
 import org.spongepowered.api.Sponge;
 import org.spongepowered.asm.mixin.Final;
 import org.spongepowered.asm.mixin.Mixin;
@@ -44,9 +45,12 @@
 import org.spongepowered.common.bridge.world.storage.SaveHandlerBridge;
 import org.spongepowered.common.plugin.PluginContainerExtension;
 import org.spongepowered.mod.SpongeMod;
+import org.spongepowered.mod.world.LevelDataPrefetch;
 
 import java.io.File;
 
+import javax.annotation.Nullable;
+
 @Mixin(value = SaveHandler.class, priority = 1001)
 public abstract class SaveHandlerMixin_Forge {
 
@@ -74,7 +78,14 @@ public abstract class SaveHandlerMixin_Forge {
             target = "Lnet/minecraft/world/storage/SaveFormatOld;loadAndFix(Ljava/io/File;Lnet/minecraft/util/datafix/DataFixer;Lnet/minecraft/world/storage/SaveHandler;)Lnet/minecraft/world/storage/WorldInfo;",
             remap = false))
     private WorldInfo forgeImpl$hookToUpdateSpongeLoadData(final File file, final DataFixer fixer, final SaveHandler handler) {
-        final WorldInfo worldInfo = SaveFormatOld.loadAndFix(file, fixer, handler);
+        @Nullable final LevelDataPrefetch.LevelData levelData = LevelDataPrefetch.take(file);
+        final WorldInfo worldInfo;
+        if (levelData != null) {
+            // Same as loadAndFix, with the reading and fixing already done
+            worldInfo = forgeImpl$loadPrefetched(file, levelData, handler);
+        } else {
+            worldInfo = SaveFormatOld.loadAndFix(file, fixer, handler);
+        }
         if (worldInfo != null) {
             try {
                 ((SaveHandlerBridge) handler).bridge$loadSpongeDatData(worldInfo);
@@ -85,6 +96,21 @@ public abstract class SaveHandlerMixin_Forge {
         return worldInfo;
     }
 
+    @Nullable
+    private static WorldInfo forgeImpl$loadPrefetched(final File file, final LevelDataPrefetch.LevelData levelData, final SaveHandler handler) {
+        try {
+            final WorldInfo worldInfo = new WorldInfo(levelData.data);
+            FMLCommonHandler.instance().handleWorldDataLoad(handler, worldInfo, levelData.compound);
+            return worldInfo;
+        } catch (StartupQuery.AbortedException e) {
+            throw e;
+        } catch (Exception e) {
+            // Like loadAndFix, so that level.dat_old is tried next
+            SpongeImpl.getLogger().error("Exception reading {}", file, e);
+            return null;
+        }
+    }
+
     @Inject(method = "getWorldDirectory", at = @At("HEAD"), cancellable = true)
     private void forgeImpl$useWorldSaveDirectoryforMods(final CallbackInfoReturnable<File> cir) {
         final ModContainer activeContainer = Loader.instance().activeModContainer();
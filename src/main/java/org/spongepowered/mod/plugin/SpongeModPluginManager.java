@@ -29,28 +29,42 @@
 import com.google.common.collect.ImmutableList;
 import com.google.inject.Singleton;
 import net.minecraftforge.fml.common.Loader;
+import net.minecraftforge.fml.common.LoaderState;
 import net.minecraftforge.fml.common.ModContainer;
 import org.spongepowered.api.plugin.PluginContainer;
 import org.spongepowered.api.plugin.PluginManager;
 import org.spongepowered.api.util.annotation.NonnullByDefault;
 
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
 
+import javax.annotation.Nullable;
+
 @NonnullByDefault
 @Singleton
 public class SpongeModPluginManager implements PluginManager {
 
+    // Rebuilt whenever the loader changes state, the mod lists settle once mods are constructed
+    @Nullable private volatile Index index;
+
     @Override
     public Optional<PluginContainer> getPlugin(String id) {
         checkNotNull(id, "id");
         ModContainer container = Loader.instance().getIndexedModList().get(id);
         if (container == null) {
-            for (ModContainer mod : Loader.instance().getModList()) {
-                if (mod.getModId().equalsIgnoreCase(id)) {
-                    container = mod;
-                    break;
+            @Nullable final Index index = this.getIndex();
+            if (index != null) {
+                container = index.modsByFoldedId.get(id.toLowerCase(Locale.ROOT));
+            } else {
+                for (ModContainer mod : Loader.instance().getModList()) {
+                    if (mod.getModId().equalsIgnoreCase(id)) {
+                        container = mod;
+                        break;
+                    }
                 }
             }
         }
@@ -60,9 +74,27 @@ public Optional<PluginContainer> getPlugin(String id) {
     @Override
     @SuppressWarnings({"unchecked", "rawtypes"})
     public Collection<PluginContainer> getPlugins() {
+        @Nullable final Index index = this.getIndex();
+        if (index != null) {
+            return index.plugins;
+        }
         return ImmutableList.copyOf((List) Loader.instance().getActiveModList());
     }
 
+    @Nullable
+    private Index getIndex() {
+        final LoaderState state = Loader.instance().getLoaderState();
+        @Nullable Index index = this.index;
+        if (index == null || index.state != state) {
+            if (state.ordinal() < LoaderState.CONSTRUCTING.ordinal()) {
+                return null;
+            }
+            index = new Index(state);
+            this.index = index;
+        }
+        return index;
+    }
+
     @Override
     public Optional<PluginContainer> fromInstance(Object instance) {
         checkNotNull(instance, "instance");
@@ -78,4 +110,21 @@ public boolean isLoaded(String id) {
         return Loader.isModLoaded(id);
     }
 
+    private static final class Index {
+
+        final LoaderState state;
+        final Map<String, ModContainer> modsByFoldedId = new HashMap<>();
+        final ImmutableList<PluginContainer> plugins;
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        Index(final LoaderState state) {
+            this.state = state;
+            for (ModContainer mod : Loader.instance().getModList()) {
+                // The first match wins, like the scan it replaces
+                this.modsByFoldedId.putIfAbsent(mod.getModId().toLowerCase(Locale.ROOT), mod);
+            }
+            this.plugins = ImmutableList.copyOf((List) Loader.instance().getActiveModList());
+        }
+    }
+
 }
@@ -31,6 +31,7 @@
 import net.minecraftforge.server.permission.context.IContext;
 import org.spongepowered.api.Sponge;
 import org.spongepowered.api.entity.living.player.Player;
+import org.spongepowered.api.event.permission.SubjectDataUpdateEvent;
 import org.spongepowered.api.plugin.PluginContainer;
 import org.spongepowered.api.service.permission.PermissionDescription;
 import org.spongepowered.api.service.permission.PermissionService;
@@ -39,10 +40,15 @@
 import org.spongepowered.api.text.serializer.TextSerializers;
 import org.spongepowered.common.SpongeImpl;
 import org.spongepowered.common.SpongeImplHooks;
+import org.spongepowered.common.SpongeInternalListeners;
 import org.spongepowered.common.registry.RegistryHelper;
 
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.LinkedList;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 import javax.annotation.Nullable;
@@ -51,8 +57,26 @@
 public enum SpongePermissionHandler implements IPermissionHandler {
     INSTANCE;
 
+    /**
+     * The most decisions kept for a single tick before the cache is cleared.
+     */
+    private static final int MAX_CACHED_DECISIONS = 8192;
+
+    @Nullable private volatile PermissionService service;
+
+    // Decisions made on the server thread during the current tick. A player's
+    // contexts are treated as unchanged for the rest of the tick.
+    private final Map<DecisionKey, Boolean> decisions = new HashMap<>();
+    private volatile int decisionTick = -1;
+
     public void adopt() {
         PermissionAPI.setPermissionHandler(this);
+        SpongeInternalListeners.getInstance().registerServiceCallback(PermissionService.class, service -> {
+            this.service = service;
+            this.invalidateDecisions();
+        });
+        Sponge.getEventManager().registerListener(SpongeImpl.getPlugin().getInstance().get(), SubjectDataUpdateEvent.class,
+            event -> this.invalidateDecisions());
     }
 
     public void forceAdoption() {
@@ -75,6 +99,27 @@ public Collection<String> getRegisteredNodes() {
 
     @Override
     public boolean hasPermission(final GameProfile profile, final String node, @Nullable final IContext context) {
+        if (!Sponge.isServerAvailable() || !SpongeImplHooks.isMainThread()) {
+            return this.resolvePermission(profile, node, context);
+        }
+
+        final int tick = SpongeImpl.getServer().getTickCounter();
+        if (tick != this.decisionTick || this.decisions.size() >= MAX_CACHED_DECISIONS) {
+            this.decisions.clear();
+            this.decisionTick = tick;
+        }
+        @Nullable final Player player = context == null ? null : (Player) context.getPlayer();
+        final DecisionKey key = new DecisionKey(profile.getId(), node, player == null ? null : player.getUniqueId());
+        @Nullable final Boolean decision = this.decisions.get(key);
+        if (decision != null) {
+            return decision;
+        }
+        final boolean hasPermission = this.resolvePermission(profile, node, context);
+        this.decisions.put(key, hasPermission);
+        return hasPermission;
+    }
+
+    private boolean resolvePermission(final GameProfile profile, final String node, @Nullable final IContext context) {
         @Nullable final Subject subject = this.getService().getUserSubjects().getSubject(profile.getId().toString()).orElse(null);
         if (subject != null) {
             if (context != null && context.getPlayer() != null) {
@@ -94,6 +139,51 @@ public String getNodeDescription(final String node) {
     }
 
     private PermissionService getService() {
-        return Sponge.getServiceManager().provideUnchecked(PermissionService.class);
+        @Nullable PermissionService service = this.service;
+        if (service == null) {
+            service = Sponge.getServiceManager().provideUnchecked(PermissionService.class);
+            this.service = service;
+        }
+        return service;
+    }
+
+    private void invalidateDecisions() {
+        if (SpongeImplHooks.isMainThread()) {
+            this.decisions.clear();
+        } else {
+            // Only the server thread touches the cache, let it clear on the next check
+            this.decisionTick = -1;
+        }
+    }
+
+    private static final class DecisionKey {
+
+        private final UUID profileId;
+        private final String node;
+        @Nullable private final UUID contextPlayerId;
+
+        DecisionKey(final UUID profileId, final String node, @Nullable final UUID contextPlayerId) {
+            this.profileId = profileId;
+            this.node = node;
+            this.contextPlayerId = contextPlayerId;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof DecisionKey)) {
+                return false;
+            }
+            final DecisionKey that = (DecisionKey) o;
+            return this.profileId.equals(that.profileId) && this.node.equals(that.node)
+                && Objects.equals(this.contextPlayerId, that.contextPlayerId);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * (31 * this.profileId.hashCode() + this.node.hashCode()) + Objects.hashCode(this.contextPlayerId);
+        }
     }
 }
@@ -0,0 +1,67 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.mod.service.world;
+
+import com.flowpowered.math.vector.Vector3i;
+import com.google.common.collect.ImmutableSetMultimap;
+import com.google.common.collect.LinkedHashMultimap;
+import com.google.common.collect.SetMultimap;
+import net.minecraft.util.math.ChunkPos;
+import org.spongepowered.api.world.ChunkTicketManager.LoadingTicket;
+
+import javax.annotation.Nullable;
+
+/**
+ * The forced chunks of a single world, kept up to date as tickets force and
+ * unforce chunks. The immutable view handed out to plugins is only rebuilt
+ * after a change.
+ */
+public final class ForcedChunkView {
+
+    private final SetMultimap<Vector3i, LoadingTicket> forcedChunks = LinkedHashMultimap.create();
+    @Nullable private ImmutableSetMultimap<Vector3i, LoadingTicket> snapshot;
+
+    void put(final ChunkPos pos, final LoadingTicket ticket) {
+        if (this.forcedChunks.put(new Vector3i(pos.x, 0, pos.z), ticket)) {
+            this.snapshot = null;
+        }
+    }
+
+    void remove(final ChunkPos pos, final LoadingTicket ticket) {
+        if (this.forcedChunks.remove(new Vector3i(pos.x, 0, pos.z), ticket)) {
+            this.snapshot = null;
+        }
+    }
+
+    ImmutableSetMultimap<Vector3i, LoadingTicket> get() {
+        ImmutableSetMultimap<Vector3i, LoadingTicket> snapshot = this.snapshot;
+        if (snapshot == null) {
+            snapshot = ImmutableSetMultimap.copyOf(this.forcedChunks);
+            this.snapshot = snapshot;
+        }
+        return snapshot;
+    }
+
+}
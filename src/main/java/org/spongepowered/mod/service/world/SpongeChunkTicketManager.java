@@ -43,20 +43,58 @@
 import org.spongepowered.common.SpongeImpl;
 import org.spongepowered.common.data.persistence.NbtTranslator;
 import org.spongepowered.common.util.VecHelper;
+import org.spongepowered.mod.bridge.world.TicketBridge_Forge;
+import org.spongepowered.mod.bridge.world.WorldBridge_Forge;
 import org.spongepowered.mod.mixin.core.forge.common.ForgeChunkManager$TicketAccessor;
 
 import java.util.ArrayList;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.Set;
 import java.util.UUID;
 
 import javax.annotation.Nullable;
 
 public class SpongeChunkTicketManager implements ChunkTicketManager {
 
+    /**
+     * Called after a chunk has been forced by the given ticket.
+     *
+     * @param ticket The forge ticket
+     * @param pos The forced chunk position
+     */
+    public static void onChunkForced(final Ticket ticket, final ChunkPos pos) {
+        final SpongeLoadingTicket spongeTicket = wrap(ticket);
+        spongeTicket.chunkList = null;
+        ((WorldBridge_Forge) ticket.world).forgeBridge$getForcedChunkView().put(pos, spongeTicket);
+    }
+
+    /**
+     * Called before a chunk is unforced by the given ticket.
+     *
+     * @param ticket The forge ticket
+     * @param pos The unforced chunk position
+     */
+    public static void onChunkUnforced(final Ticket ticket, final ChunkPos pos) {
+        final SpongeLoadingTicket spongeTicket = wrap(ticket);
+        spongeTicket.chunkList = null;
+        ((WorldBridge_Forge) ticket.world).forgeBridge$getForcedChunkView().remove(pos, spongeTicket);
+    }
+
+    private static SpongeLoadingTicket wrap(final Ticket ticket) {
+        SpongeLoadingTicket spongeTicket = (SpongeLoadingTicket) ((TicketBridge_Forge) ticket).forgeBridge$getSpongeTicket();
+        if (spongeTicket == null) {
+            final boolean entity = ticket.getType() == ForgeChunkManager.Type.ENTITY;
+            if (ticket.isPlayerTicket()) {
+                spongeTicket = entity ? new SpongePlayerEntityLoadingTicket(ticket) : new SpongePlayerLoadingTicket(ticket);
+            } else {
+                spongeTicket = entity ? new SpongeEntityLoadingTicket(ticket) : new SpongeLoadingTicket(ticket);
+            }
+            ((TicketBridge_Forge) ticket).forgeBridge$setSpongeTicket(spongeTicket);
+        }
+        return spongeTicket;
+    }
+
     @Override
     public void registerCallback(final Object plugin, final Callback callback) {
         ForgeChunkManager.setForcedChunkLoadingCallback(plugin, new SpongeLoadingCallback(callback));
@@ -69,7 +107,7 @@ public Optional<LoadingTicket> createTicket(final Object plugin, final World wor
             return Optional.empty();
         }
 
-        return Optional.of(new SpongeLoadingTicket(forgeTicket));
+        return Optional.of(wrap(forgeTicket));
     }
 
     @Override
@@ -79,7 +117,7 @@ public Optional<EntityLoadingTicket> createEntityTicket(final Object plugin, fin
             return Optional.empty();
         }
 
-        return Optional.of(new SpongeEntityLoadingTicket(forgeTicket));
+        return Optional.of((EntityLoadingTicket) wrap(forgeTicket));
     }
 
     @Override
@@ -96,7 +134,7 @@ public Optional<PlayerLoadingTicket> createPlayerTicket(final Object plugin, fin
             return Optional.empty();
         }
 
-        return Optional.of(new SpongePlayerLoadingTicket(forgeTicket));
+        return Optional.of((PlayerLoadingTicket) wrap(forgeTicket));
     }
 
     @Override
@@ -113,7 +151,7 @@ public Optional<PlayerEntityLoadingTicket> createPlayerEntityTicket(final Object
             return Optional.empty();
         }
 
-        return Optional.of(new SpongePlayerEntityLoadingTicket(forgeTicket));
+        return Optional.of((PlayerEntityLoadingTicket) wrap(forgeTicket));
     }
 
     @Override
@@ -135,29 +173,18 @@ public int getAvailableTickets(final UUID player) {
 
     @Override
     public ImmutableSetMultimap<Vector3i, LoadingTicket> getForcedChunks(final World world) {
-        final ImmutableSetMultimap<ChunkPos, Ticket> forgeForcedChunks =
-                ForgeChunkManager.getPersistentChunksFor((net.minecraft.world.World) world);
-        final ImmutableSetMultimap.Builder<Vector3i, LoadingTicket> spongeForcedChunks = ImmutableSetMultimap.builder();
-        for (final Map.Entry<ChunkPos, Ticket> ticketPair : forgeForcedChunks.entries()) {
-            spongeForcedChunks.put(new Vector3i(ticketPair.getKey().x, 0, ticketPair.getKey().z),
-                    new SpongeLoadingTicket(ticketPair.getValue()));
-        }
-
-        return spongeForcedChunks.build();
+        return ((WorldBridge_Forge) world).forgeBridge$getForcedChunkView().get();
     }
 
-    private class SpongeLoadingTicket implements ChunkTicketManager.LoadingTicket {
+    private static class SpongeLoadingTicket implements ChunkTicketManager.LoadingTicket {
 
         ForgeChunkManager.Ticket forgeTicket;
-        private final PluginContainer plugin;
-        private final String pluginId;
-        @Nullable private ImmutableSet<Vector3i> chunkList;
+        @Nullable private String pluginId;
+        @Nullable volatile ImmutableSet<Vector3i> chunkList;
         private final World world;
 
         SpongeLoadingTicket(final Ticket ticket) {
             this.forgeTicket = ticket;
-            this.plugin = SpongeImpl.getGame().getPluginManager().getPlugin(ticket.getModId()).get();
-            this.pluginId = this.plugin.getId();
             this.world = (World) ticket.world;
         }
 
@@ -202,22 +229,27 @@ public void setCompanionData(final DataContainer container) {
 
         @Override
         public String getPlugin() {
+            if (this.pluginId == null) {
+                this.pluginId = SpongeImpl.getGame().getPluginManager().getPlugin(this.forgeTicket.getModId()).get().getId();
+            }
             return this.pluginId;
         }
 
         @Override
         public ImmutableSet<Vector3i> getChunkList() {
-            if (this.chunkList != null) {
-                return this.chunkList;
+            ImmutableSet<Vector3i> chunkList = this.chunkList;
+            if (chunkList != null) {
+                return chunkList;
             }
 
-            final Set<Vector3i> forgeChunkList = new HashSet<>();
+            final ImmutableSet.Builder<Vector3i> forgeChunkList = ImmutableSet.builder();
             for (final ChunkPos chunkCoord : this.forgeTicket.getChunkList()) {
                 forgeChunkList.add(new Vector3i(chunkCoord.x, 0, chunkCoord.z));
             }
 
-            this.chunkList = new ImmutableSet.Builder<Vector3i>().addAll(forgeChunkList).build();
-            return this.chunkList;
+            chunkList = forgeChunkList.build();
+            this.chunkList = chunkList;
+            return chunkList;
         }
 
         @Override
@@ -233,6 +265,7 @@ public void unforceChunk(final Vector3i chunk) {
         @Override
         public void prioritizeChunk(final Vector3i chunk) {
             ForgeChunkManager.reorderChunk(this.forgeTicket, VecHelper.toChunkPos(chunk));
+            this.chunkList = null;
         }
 
         @Override
@@ -242,7 +275,7 @@ public void release() {
 
     }
 
-    private class SpongeEntityLoadingTicket extends SpongeLoadingTicket implements EntityLoadingTicket {
+    private static class SpongeEntityLoadingTicket extends SpongeLoadingTicket implements EntityLoadingTicket {
 
         SpongeEntityLoadingTicket(final Ticket ticket) {
             super(ticket);
@@ -260,7 +293,7 @@ public Entity getBoundEntity() {
 
     }
 
-    private class SpongePlayerLoadingTicket extends SpongeLoadingTicket implements PlayerLoadingTicket {
+    private static class SpongePlayerLoadingTicket extends SpongeLoadingTicket implements PlayerLoadingTicket {
 
         SpongePlayerLoadingTicket(final Ticket ticket) {
             super(ticket);
@@ -273,7 +306,7 @@ public UUID getPlayerUniqueId() {
 
     }
 
-    private class SpongePlayerEntityLoadingTicket extends SpongePlayerLoadingTicket implements PlayerEntityLoadingTicket {
+    private static class SpongePlayerEntityLoadingTicket extends SpongePlayerLoadingTicket implements PlayerEntityLoadingTicket {
 
         SpongePlayerEntityLoadingTicket(final Ticket ticket) {
             super(ticket);
@@ -304,7 +337,7 @@ public void ticketsLoaded(final List<Ticket> tickets, final net.minecraft.world.
             final List<LoadingTicket> loadingTickets = new ArrayList<>();
 
             for (final Ticket ticket : tickets) {
-                loadingTickets.add(new SpongeLoadingTicket(ticket));
+                loadingTickets.add(wrap(ticket));
             }
 
             this.spongeLoadingCallback.onLoaded(new ImmutableList.Builder<LoadingTicket>().addAll(loadingTickets).build(),
@@ -324,7 +357,7 @@ public SpongeOrderedCallback(final Object plugin, final Callback callback) {
         public List<Ticket> ticketsLoaded(final List<Ticket> tickets, final net.minecraft.world.World world, final int maxTicketCount) {
             final List<LoadingTicket> spongeLoadingTickets = new ArrayList<>();
             for (final Ticket ticket : tickets) {
-                spongeLoadingTickets.add(new SpongeLoadingTicket(ticket));
+                spongeLoadingTickets.add(wrap(ticket));
             }
 
             final OrderedCallback spongeOrderedCallback = (OrderedCallback) this.spongeLoadingCallback;
@@ -352,7 +385,7 @@ public ListMultimap<String, Ticket> playerTicketsLoaded(final ListMultimap<Strin
             final ListMultimap<UUID, LoadingTicket> spongeLoadingTickets = ArrayListMultimap.create();
             for (final Map.Entry<String, Ticket> mapEntry : tickets.entries()) {
                 final Optional<Player> player = SpongeImpl.getGame().getServer().getPlayer(mapEntry.getKey());
-                player.ifPresent(player1 -> spongeLoadingTickets.put(player1.getUniqueId(), new SpongePlayerLoadingTicket(mapEntry.getValue())));
+                player.ifPresent(player1 -> spongeLoadingTickets.put(player1.getUniqueId(), wrap(mapEntry.getValue())));
             }
 
             final ListMultimap<UUID, LoadingTicket> spongeKeptTickets =
@@ -24,7 +24,17 @@
  */
 package org.spongepowered.mod.util;
 
-final class DamageEventObject {
+import net.minecraftforge.common.ISpecialArmor;
+
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * The damage function of a single piece of armor, holding the state it
+ * carries between evaluations.
+ */
+final class DamageEventObject implements DoubleUnaryOperator {
+
+    final ISpecialArmor.ArmorProperties prop;
 
     int level;
     int previousLevel;
@@ -33,4 +43,28 @@ final class DamageEventObject {
     double previousRatio;
 
     boolean augment = false;
+
+    DamageEventObject(final ISpecialArmor.ArmorProperties prop) {
+        this.prop = prop;
+    }
+
+    @Override
+    public double applyAsDouble(double incomingDamage) {
+        incomingDamage *= 25;
+        if (this.augment) {
+            StaticMixinForgeHelper.damageToHandle = incomingDamage;
+        }
+        double functionDamage = StaticMixinForgeHelper.damageToHandle;
+        this.previousDamage = functionDamage;
+        this.level = this.prop.Priority;
+        this.ratio = this.prop.AbsorbRatio;
+        if (this.previousLevel != this.prop.Priority) {
+            functionDamage -= (functionDamage * this.previousRatio);
+            StaticMixinForgeHelper.damageToHandle = functionDamage;
+            this.ratio = 0;
+            this.level = this.prop.Priority;
+        }
+        this.ratio += this.prop.AbsorbRatio;
+        return - ((functionDamage * this.prop.AbsorbRatio) / 25);
+    }
 }
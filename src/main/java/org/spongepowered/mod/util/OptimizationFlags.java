@@ -0,0 +1,86 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.mod.util;
+
+/**
+ * Opt-in optimizations of SpongeForge which change observable behaviour
+ * and are therefore disabled by default. Each flag is read once from a
+ * system property prefixed with {@code sponge.optimization.}, for example
+ * {@code -Dsponge.optimization.coalesceListenerFrames=true}.
+ */
+public final class OptimizationFlags {
+
+    /**
+     * Only switches the active mod container and the plugin cause frame
+     * when the owning plugin changes between adjacent event listeners,
+     * instead of once per listener.
+     */
+    public static final boolean COALESCE_LISTENER_FRAMES = flag("coalesceListenerFrames");
+
+    /**
+     * Generates the biomes and base terrain of the chunks players are waiting
+     * for on a worker pool, for worlds whose base generator and biome
+     * generator are plugin provided. Each worker uses its own copy of the
+     * world generator. Enabling this asserts that separate instances of
+     * those generators don't share mutable state, and that the base generators
+     * never read from the world they are given, since they run off the server
+     * thread.
+     *
+     * <p>Only chunks that players are waiting for are requested. Chunks that
+     * are loaded directly through the chunk provider, such as by world
+     * pregeneration, are generated on the server thread as usual.</p>
+     */
+    public static final boolean ASYNC_CHUNK_GENERATION = flag("asyncChunkGeneration");
+
+    /**
+     * Defers the {@code ChangeInventoryEvent.Transfer.Post} events of hopper
+     * and dropper transfers to the end of the world tick, firing one event per
+     * source and destination inventory instead of one per transfer.
+     */
+    public static final boolean BATCH_INVENTORY_TRANSFERS = flag("batchInventoryTransfers");
+
+    /**
+     * Reuses the outcome of a {@code ChangeBlockEvent.Pre} fired for Forge
+     * fluid flow at a position while the same fluid block ticks, instead of
+     * firing it again each time that block checks the position. Outcomes are
+     * not shared between fluid blocks, since each one is its own cause.
+     */
+    public static final boolean COALESCE_FLUID_EVENTS = flag("coalesceFluidEvents");
+
+    /**
+     * Reads and data fixes the {@code level.dat} of all worlds in the save
+     * directory on a worker pool while the worlds are loaded at startup of a
+     * dedicated server. Enabling this asserts that all registered data fixers
+     * are thread safe.
+     */
+    public static final boolean PARALLEL_LEVEL_DATA_LOADING = flag("parallelLevelDataLoading");
+
+    private static boolean flag(String name) {
+        return Boolean.getBoolean("sponge.optimization." + name);
+    }
+
+    private OptimizationFlags() {
+    }
+}
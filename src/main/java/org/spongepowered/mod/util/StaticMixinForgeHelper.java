@@ -60,13 +60,12 @@
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.function.DoubleUnaryOperator;
 
 import javax.annotation.Nullable;
 
 public final class StaticMixinForgeHelper {
 
-    static final Map<String, EventContextKey<ItemStackSnapshot>> ARMOR_KEYS = new ConcurrentHashMap<>();
+    private static final Map<EquipmentType, EventContextKey<ItemStackSnapshot>> ARMOR_KEYS = new ConcurrentHashMap<>();
     public static final EventContextKey<ISpecialArmor.ArmorProperties> ARMOR_PROPERTY = new EventContextKey<ISpecialArmor.ArmorProperties>() {
         @Override
         public Class<ISpecialArmor.ArmorProperties> getAllowedType() {
@@ -103,15 +102,23 @@ public String getName() {
     public static Optional<List<DamageFunction>> createArmorModifiers(
         final EntityLivingBase entityLivingBase, final DamageSource damageSource, final double damage) {
         final Iterable<ItemStack> inventory = entityLivingBase.getArmorInventoryList();
-        final List<ItemStack> itemStacks = Lists.newArrayList(inventory);
+        // The armor inventory is only read, so there's no need to copy it when it's already a list
+        final List<ItemStack> itemStacks = inventory instanceof List ? (List<ItemStack>) inventory : Lists.newArrayList(inventory);
         // Beware all ye who enter here, for there's nothing but black magic here.
-        final ArrayList<ISpecialArmor.ArmorProperties> dmgVals = new ArrayList<ISpecialArmor.ArmorProperties>();
+        ISpecialArmor.ArmorProperties[] dmgVals = new ISpecialArmor.ArmorProperties[itemStacks.size()];
+        int count = 0;
         for (int x = 0; x < itemStacks.size(); x++) {
             final ISpecialArmor.ArmorProperties properties = getProperties(entityLivingBase, itemStacks.get(x), damageSource, damage, x);
             if (properties != null) {
-                dmgVals.add(properties);
+                dmgVals[count++] = properties;
             }
         }
+        if (count == 0) {
+            return Optional.empty();
+        }
+        if (count < dmgVals.length) {
+            dmgVals = Arrays.copyOf(dmgVals, count);
+        }
         return createArmorModifiers(dmgVals, itemStacks, damage);
     }
 
@@ -134,91 +141,99 @@ public static void acceptArmorModifier(final EntityLivingBase entity, final Dama
         }
     }
 
-    private static double damageToHandle;
-
-    private static Optional<List<DamageFunction>> createArmorModifiers(final List<ISpecialArmor.ArmorProperties> dmgVals, final List<ItemStack> inventory, double damage) {
-        if (dmgVals.size() > 0) {
-            final List<DamageFunction> list = new ArrayList<>();
-            final ISpecialArmor.ArmorProperties[] props = dmgVals.toArray(new ISpecialArmor.ArmorProperties[dmgVals.size()]);
-            sortProperties(props, damage);
-            boolean first = true;
-            int level = props[0].Priority;
-            double ratio = 0;
-            for (final ISpecialArmor.ArmorProperties prop : props) {
-                final EquipmentType type = DamageEventHandler.resolveEquipment(prop.Slot);
-
-                final DamageEventObject object = new DamageEventObject();
-                object.previousLevel = prop.Priority;
-                object.previousRatio = ratio;
-                if (first) {
-                    object.previousDamage = damage;
-                    object.augment = true;
-                }
-                final DoubleUnaryOperator function = incomingDamage -> {
-                    incomingDamage *= 25;
-                    if (object.augment) {
-                        damageToHandle = incomingDamage;
-                    }
-                    double functionDamage = damageToHandle;
-                    object.previousDamage = functionDamage;
-                    object.level = prop.Priority;
-                    object.ratio = prop.AbsorbRatio;
-                    if (object.previousLevel != prop.Priority) {
-                        functionDamage -= (functionDamage * object.previousRatio);
-                        damageToHandle = functionDamage;
-                        object.ratio = 0;
-                        object.level = prop.Priority;
-                    }
-                    object.ratio += prop.AbsorbRatio;
-                    return - ((functionDamage * prop.AbsorbRatio) / 25);
-                };
-                // We still need to "simulate" the original function so that the ratios are handled
-                if (level != prop.Priority) {
-                    damage -= (damage * ratio);
-                    ratio = 0;
-                    level = prop.Priority;
-                }
-                ratio += prop.AbsorbRatio;
-
-                EventContextKey<ItemStackSnapshot> contextKey = ARMOR_KEYS.get("armor:" + type.getId());
-                if (contextKey == null) {
-                    contextKey = new EventContextKey<ItemStackSnapshot>() {
-                        @Override
-                        public Class<ItemStackSnapshot> getAllowedType() {
-                            return ItemStackSnapshot.class;
-                        }
-
-                        @Override
-                        public String getId() {
-                            return "armor:" + type.getId();
-                        }
+    static double damageToHandle;
 
-                        @Override
-                        public String getName() {
-                            return type.getName();
-                        }
-                    };
-                    ARMOR_KEYS.put("armor: " + type.getId(), contextKey);
-                }
+    private static Optional<List<DamageFunction>> createArmorModifiers(final ISpecialArmor.ArmorProperties[] props, final List<ItemStack> inventory,
+        final double damage) {
+        final DamageEventObject[] functions = createArmorFunctions(props, damage);
+        final List<DamageFunction> list = new ArrayList<>(functions.length);
+        for (final DamageEventObject object : functions) {
+            final ItemStack itemStack = inventory.get(object.prop.Slot);
+            list.add(createArmorModifier(object, ItemStackUtil.snapshotOf(itemStack), itemStack));
+        }
+        return Optional.of(list);
+    }
 
-                final ItemStack itemStack = inventory.get(prop.Slot);
-                final DamageModifier modifier = DamageModifier.builder()
-                    .cause(Cause.of(
-                        EventContext.builder()
-                            .add(contextKey, ItemStackUtil.snapshotOf(itemStack))
-                            .add(ARMOR_PROPERTY, prop)
-                            .add(DAMAGE_MODIFIER_OBJECT, object)
-                        .build(),
-                        itemStack
-                    ))
-                    .type(DamageModifierTypes.ARMOR)
-                    .build();
-                list.add(DamageFunction.of(modifier, function));
-                first = false;
+    /**
+     * Sorts the given armor properties and creates the damage function of
+     * each, in the order they are applied.
+     *
+     * @param props The armor properties, sorted in place
+     * @param damage The incoming damage
+     * @return The damage functions
+     */
+    static DamageEventObject[] createArmorFunctions(final ISpecialArmor.ArmorProperties[] props, double damage) {
+        final DamageEventObject[] functions = new DamageEventObject[props.length];
+        sortProperties(props, damage);
+        int level = props[0].Priority;
+        double ratio = 0;
+        for (int i = 0; i < props.length; i++) {
+            final ISpecialArmor.ArmorProperties prop = props[i];
+            final DamageEventObject object = new DamageEventObject(prop);
+            object.previousLevel = prop.Priority;
+            object.previousRatio = ratio;
+            if (i == 0) {
+                object.previousDamage = damage;
+                object.augment = true;
+            }
+            // We still need to "simulate" the original function so that the ratios are handled
+            if (level != prop.Priority) {
+                damage -= (damage * ratio);
+                ratio = 0;
+                level = prop.Priority;
             }
-            return Optional.of(list);
+            ratio += prop.AbsorbRatio;
+            functions[i] = object;
+        }
+        return functions;
+    }
+
+    /**
+     * Creates the damage modifier of a single piece of armor.
+     *
+     * @param object The damage function of the armor piece
+     * @param snapshot The snapshot of the armor piece
+     * @param armor The armor piece, which is the root of the cause
+     * @return The damage modifier with its function
+     */
+    static DamageFunction createArmorModifier(final DamageEventObject object, final ItemStackSnapshot snapshot, final Object armor) {
+        final ISpecialArmor.ArmorProperties prop = object.prop;
+        final EquipmentType type = DamageEventHandler.resolveEquipment(prop.Slot);
+        EventContextKey<ItemStackSnapshot> contextKey = ARMOR_KEYS.get(type);
+        if (contextKey == null) {
+            contextKey = ARMOR_KEYS.computeIfAbsent(type, StaticMixinForgeHelper::createArmorKey);
         }
-        return Optional.empty();
+        final DamageModifier modifier = DamageModifier.builder()
+            .cause(Cause.of(
+                EventContext.builder()
+                    .add(contextKey, snapshot)
+                    .add(ARMOR_PROPERTY, prop)
+                    .add(DAMAGE_MODIFIER_OBJECT, object)
+                .build(),
+                armor
+            ))
+            .type(DamageModifierTypes.ARMOR)
+            .build();
+        return DamageFunction.of(modifier, object);
+    }
+
+    private static EventContextKey<ItemStackSnapshot> createArmorKey(final EquipmentType type) {
+        return new EventContextKey<ItemStackSnapshot>() {
+            @Override
+            public Class<ItemStackSnapshot> getAllowedType() {
+                return ItemStackSnapshot.class;
+            }
+
+            @Override
+            public String getId() {
+                return "armor:" + type.getId();
+            }
+
+            @Override
+            public String getName() {
+                return type.getName();
+            }
+        };
     }
 
     private static ISpecialArmor.ArmorProperties getProperties(final EntityLivingBase base, final ItemStack armorStack, final DamageSource damageSource, final double damage, final int index) {
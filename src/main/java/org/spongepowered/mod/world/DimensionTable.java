@@ -0,0 +1,97 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.mod.world;
+
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.ints.Int2ReferenceMap;
+import it.unimi.dsi.fastutil.ints.Int2ReferenceOpenHashMap;
+import net.minecraft.world.DimensionType;
+import net.minecraft.world.WorldServer;
+import org.spongepowered.common.SpongeImplHooks;
+import org.spongepowered.common.world.WorldManager;
+
+import javax.annotation.Nullable;
+
+/**
+ * An immutable copy of the registered dimensions and loaded worlds in the
+ * {@link WorldManager}, which mods may read from any thread through the
+ * {@link net.minecraftforge.common.DimensionManager}.
+ *
+ * <p>A new table is published by the server thread whenever a dimension is
+ * registered or unregistered, or a world is loaded or unloaded. Readers
+ * never see a map that is being modified, and lookups don't allocate.</p>
+ */
+public final class DimensionTable {
+
+    private static volatile DimensionTable current = new DimensionTable(new Int2ObjectOpenHashMap<>(), new Int2ReferenceOpenHashMap<>());
+
+    private final Int2ObjectMap<WorldServer> worldByDimensionId;
+    private final Int2ReferenceMap<DimensionType> dimensionTypeByDimensionId;
+
+    private DimensionTable(final Int2ObjectMap<WorldServer> worldByDimensionId,
+        final Int2ReferenceMap<DimensionType> dimensionTypeByDimensionId) {
+        this.worldByDimensionId = worldByDimensionId;
+        this.dimensionTypeByDimensionId = dimensionTypeByDimensionId;
+    }
+
+    /**
+     * Publishes a copy of the given maps. Only called from the thread that
+     * modifies them.
+     *
+     * @param worldByDimensionId The loaded worlds
+     * @param dimensionTypeByDimensionId The registered dimensions
+     */
+    public static void publish(final Int2ObjectMap<WorldServer> worldByDimensionId,
+        final Int2ReferenceMap<DimensionType> dimensionTypeByDimensionId) {
+        current = new DimensionTable(new Int2ObjectOpenHashMap<>(worldByDimensionId),
+            new Int2ReferenceOpenHashMap<>(dimensionTypeByDimensionId));
+    }
+
+    @Nullable
+    public static WorldServer getWorld(final int dimensionId) {
+        final WorldServer worldServer = current.worldByDimensionId.get(dimensionId);
+        if (worldServer == null && SpongeImplHooks.isMainThread()) {
+            // A world that is still being loaded isn't published yet, but mods
+            // expect to find it while handling its load event.
+            return WorldManager.getWorldByDimensionId(dimensionId).orElse(null);
+        }
+        return worldServer;
+    }
+
+    @Nullable
+    public static DimensionType getDimensionType(final int dimensionId) {
+        final DimensionType dimensionType = current.dimensionTypeByDimensionId.get(dimensionId);
+        if (dimensionType == null && SpongeImplHooks.isMainThread()) {
+            return WorldManager.getDimensionType(dimensionId).orElse(null);
+        }
+        return dimensionType;
+    }
+
+    public static boolean isDimensionRegistered(final int dimensionId) {
+        return getDimensionType(dimensionId) != null;
+    }
+
+}
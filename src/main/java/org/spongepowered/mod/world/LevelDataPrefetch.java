@@ -0,0 +1,177 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.mod.world;
+
+import net.minecraft.nbt.CompressedStreamTools;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.util.datafix.DataFixer;
+import net.minecraft.util.datafix.FixTypes;
+import org.spongepowered.common.SpongeImpl;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.annotation.Nullable;
+
+/**
+ * Reads and data fixes the {@code level.dat} of every world in the save
+ * directory on a worker pool while the worlds are loaded at startup. The
+ * worlds are still loaded one at a time, in their usual order, each taking
+ * its prefetched level data as it gets to it.
+ *
+ * <p>Only the reading and fixing happens off thread. Building the world
+ * info and Forge's world data handling stay on the server thread.</p>
+ */
+public final class LevelDataPrefetch {
+
+    private static final String LEVEL_DATA = "level.dat";
+
+    @Nullable private static ExecutorService executor;
+    private static final Map<File, CompletableFuture<LevelData>> pending = new HashMap<>();
+
+    private LevelDataPrefetch() {
+    }
+
+    /**
+     * Starts reading the level data of the world in the save directory and
+     * of every world folder directly inside it.
+     *
+     * @param savesDirectory The save directory
+     * @param dataFixer The data fixer
+     */
+    public static void start(final Path savesDirectory, final DataFixer dataFixer) {
+        if (executor != null) {
+            return;
+        }
+        final AtomicInteger threadId = new AtomicInteger();
+        final ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() - 1)),
+            runnable -> {
+                final Thread thread = new Thread(runnable, "Sponge Level Data Loader - " + threadId.getAndIncrement());
+                thread.setDaemon(true);
+                return thread;
+            });
+        LevelDataPrefetch.executor = executor;
+
+        submit(savesDirectory.resolve(LEVEL_DATA).toFile(), dataFixer, executor);
+        try (DirectoryStream<Path> worldDirectories = Files.newDirectoryStream(savesDirectory, Files::isDirectory)) {
+            for (final Path worldDirectory : worldDirectories) {
+                submit(worldDirectory.resolve(LEVEL_DATA).toFile(), dataFixer, executor);
+            }
+        } catch (IOException e) {
+            SpongeImpl.getLogger().warn("Failed to list the world folders in {}, loading their level data on demand", savesDirectory, e);
+        }
+    }
+
+    private static void submit(final File file, final DataFixer dataFixer, final ExecutorService executor) {
+        if (file.isFile()) {
+            pending.put(file.getAbsoluteFile(), CompletableFuture.supplyAsync(() -> read(file, dataFixer), executor));
+        }
+    }
+
+    private static LevelData read(final File file, final DataFixer dataFixer) {
+        final long start = System.nanoTime();
+        try (InputStream inputStream = new FileInputStream(file)) {
+            final NBTTagCompound compound = CompressedStreamTools.readCompressed(inputStream);
+            final NBTTagCompound data = dataFixer.process(FixTypes.LEVEL, compound.getCompoundTag("Data"));
+            return new LevelData(compound, data, System.nanoTime() - start);
+        } catch (IOException e) {
+            throw new CompletionException(e);
+        }
+    }
+
+    /**
+     * Takes the prefetched level data of the given file, waiting for it if
+     * it is still being read.
+     *
+     * @param file The level data file
+     * @return The level data, or null if it was not prefetched or failed
+     */
+    @Nullable
+    public static LevelData take(final File file) {
+        if (pending.isEmpty()) {
+            return null;
+        }
+        final CompletableFuture<LevelData> future = pending.remove(file.getAbsoluteFile());
+        if (future == null) {
+            return null;
+        }
+        try {
+            final LevelData levelData = future.join();
+            SpongeImpl.getLogger().debug("Read the level data of {} in {} ms", file.getParentFile().getName(),
+                TimeUnit.NANOSECONDS.toMillis(levelData.loadTime));
+            return levelData;
+        } catch (CompletionException e) {
+            // Reading again on the server thread reports the failure as it normally would
+            return null;
+        }
+    }
+
+    /**
+     * Stops the worker pool and discards the level data of any world that
+     * wasn't loaded.
+     */
+    public static void stop() {
+        if (executor != null) {
+            executor.shutdownNow();
+            executor = null;
+        }
+        pending.clear();
+    }
+
+    public static final class LevelData {
+
+        /**
+         * The root compound of the file, as Forge expects it.
+         */
+        public final NBTTagCompound compound;
+
+        /**
+         * The data fixed world info compound.
+         */
+        public final NBTTagCompound data;
+
+        final long loadTime;
+
+        LevelData(final NBTTagCompound compound, final NBTTagCompound data, final long loadTime) {
+            this.compound = compound;
+            this.data = data;
+            this.loadTime = loadTime;
+        }
+    }
+
+}
@@ -0,0 +1,116 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.mod.world;
+
+import net.minecraft.world.WorldServer;
+import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.bridge.world.WorldServerBridge;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tracks unloaded worlds until they are garbage collected, reporting the
+ * ones that stay reachable as possibly leaked.
+ *
+ * <p>Collected worlds are found through a {@link ReferenceQueue}, so a
+ * check only does work for the worlds collected since the last check and
+ * the worlds that are still waiting to be collected.</p>
+ */
+public final class WorldLeakDetector {
+
+    /**
+     * A leaked world is logged every this many checks.
+     */
+    private static final int REPORT_INTERVAL = 5;
+
+    private static final ReferenceQueue<WorldServer> queue = new ReferenceQueue<>();
+    // Keeps the references themselves reachable until they are enqueued
+    private static final Set<UnloadedWorld> unloadedWorlds = new HashSet<>();
+
+    private WorldLeakDetector() {
+    }
+
+    /**
+     * Starts tracking a world that was just unloaded.
+     *
+     * @param worldServer The unloaded world
+     */
+    public static synchronized void onWorldUnloaded(final WorldServer worldServer) {
+        // Servers that never check would otherwise keep a reference for every unload
+        forgetCollectedWorlds();
+        unloadedWorlds.add(new UnloadedWorld(worldServer, queue));
+    }
+
+    /**
+     * Forgets the worlds that have been collected and logs the ones that
+     * are still reachable. A world is only collected by a major collection,
+     * which can take minutes after it was unloaded, so this is logged at
+     * debug like Forge does.
+     */
+    public static synchronized void check() {
+        forgetCollectedWorlds();
+
+        final long now = System.nanoTime();
+        for (final UnloadedWorld unloadedWorld : unloadedWorlds) {
+            if (++unloadedWorld.encounters % REPORT_INTERVAL == 0) {
+                SpongeImpl.getLogger().debug("World {} ({}/{}) (HASH: {}) may have leaked. Unloaded {} seconds ago, encountered [{}] times",
+                    unloadedWorld.worldName, unloadedWorld.dimensionTypeId, unloadedWorld.dimensionId, unloadedWorld.identityHash,
+                    TimeUnit.NANOSECONDS.toSeconds(now - unloadedWorld.unloadTime), unloadedWorld.encounters);
+            }
+        }
+    }
+
+    private static void forgetCollectedWorlds() {
+        Reference<? extends WorldServer> collected;
+        while ((collected = queue.poll()) != null) {
+            unloadedWorlds.remove(collected);
+        }
+    }
+
+    private static final class UnloadedWorld extends WeakReference<WorldServer> {
+
+        // Never read the world back through the reference, reporting only needs what was copied here
+        final String worldName;
+        final String dimensionTypeId;
+        final int dimensionId;
+        final int identityHash;
+        final long unloadTime = System.nanoTime();
+        int encounters;
+
+        UnloadedWorld(final WorldServer worldServer, final ReferenceQueue<WorldServer> queue) {
+            super(worldServer, queue);
+            this.worldName = worldServer.getWorldInfo().getWorldName();
+            this.dimensionTypeId = ((org.spongepowered.api.world.DimensionType) (Object) worldServer.provider.getDimensionType()).getId();
+            this.dimensionId = ((WorldServerBridge) worldServer).bridge$getDimensionId();
+            this.identityHash = System.identityHashCode(worldServer);
+        }
+    }
+
+}
@@ -29,7 +29,7 @@
 import com.flowpowered.math.vector.Vector3i;
 import com.google.common.base.MoreObjects;
 import com.google.common.collect.ImmutableList;
-import com.google.common.collect.Lists;
+import it.unimi.dsi.fastutil.longs.LongList;
 import net.minecraft.block.BlockFalling;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.DimensionType;
@@ -56,6 +56,8 @@
 import org.spongepowered.api.data.type.DoublePlantTypes;
 import org.spongepowered.api.data.type.StoneType;
 import org.spongepowered.api.data.type.StoneTypes;
+import org.spongepowered.api.event.Event;
+import org.spongepowered.api.event.EventManager;
 import org.spongepowered.api.event.SpongeEventFactory;
 import org.spongepowered.api.util.weighted.TableEntry;
 import org.spongepowered.api.util.weighted.WeightedObject;
@@ -109,12 +111,15 @@
 import org.spongepowered.common.world.gen.populators.AnimalPopulator;
 import org.spongepowered.common.world.gen.populators.PlainsGrassPopulator;
 import org.spongepowered.common.world.gen.populators.SnowPopulator;
+import org.spongepowered.mod.event.SpongeModEventManager;
 import org.spongepowered.mod.util.CompatibilityException;
+import org.spongepowered.mod.util.OptimizationFlags;
 import org.spongepowered.mod.util.StaticMixinForgeHelper;
 
 import java.util.ArrayList;
-import java.util.Iterator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Random;
 
@@ -127,6 +132,11 @@
 public final class SpongeChunkGeneratorForge extends SpongeChunkGenerator {
 
     @Nullable private IChunkGenerator moddedGeneratorFallback = null;
+    @Nullable private TerrainGenerationPipeline terrainPipeline;
+    private boolean terrainPipelineUnavailable;
+    private final Map<BiomeType, PopulatorOrder> populatorOrders = new HashMap<>();
+    private final List<String> populateFlags = new ArrayList<>();
+    private int populateDepth;
 
     public SpongeChunkGeneratorForge(final World world, final GenerationPopulator generationPopulator, final BiomeGenerator biomeGenerator) {
         super(world, generationPopulator, biomeGenerator);
@@ -146,6 +156,76 @@ public SpongeChunkGeneratorForge(final World world, final GenerationPopulator ge
         this.chunkGeneratorTiming = SpongeTimingsFactory.ofSafe(chunkGeneratorName, ((WorldServerBridge) world).bridge$getTimingsHandler().chunkPopulate);
     }
 
+    /**
+     * Gets whether {@link #requestTerrain(LongList)} may generate terrain
+     * off the server thread for this world.
+     *
+     * @return False if requests are ignored
+     */
+    public boolean canRequestTerrain() {
+        return OptimizationFlags.ASYNC_CHUNK_GENERATION && !this.terrainPipelineUnavailable;
+    }
+
+    /**
+     * Gets whether the terrain of the given chunk was requested and is
+     * still pending.
+     *
+     * @param chunk The chunk, as given by {@link net.minecraft.util.math.ChunkPos#asLong(int, int)}
+     * @return True if the chunk is pending
+     */
+    public boolean isTerrainRequested(final long chunk) {
+        return this.terrainPipeline != null && this.terrainPipeline.isRequested(chunk);
+    }
+
+    /**
+     * Starts generating the biomes and base terrain of the given chunks off
+     * the server thread, to be picked up by {@link #generateChunk(int, int)}.
+     * Terrain of chunks that were requested before but are no longer part of
+     * the given ones is dropped. Only used with
+     * {@link OptimizationFlags#ASYNC_CHUNK_GENERATION}.
+     *
+     * @param chunks The chunks about to be generated, most urgent first
+     */
+    public void requestTerrain(final LongList chunks) {
+        if (!OptimizationFlags.ASYNC_CHUNK_GENERATION || this.terrainPipelineUnavailable) {
+            return;
+        }
+        if (this.terrainPipeline != null && !this.terrainPipeline.isFor(this.baseGenerator, this.biomeGenerator)) {
+            // The generators were replaced since, so the copies used by the workers don't match anymore
+            this.terrainPipeline.clear();
+            this.terrainPipeline = null;
+        }
+        if (this.terrainPipeline == null) {
+            this.terrainPipeline = TerrainGenerationPipeline.create(this.world, this.baseGenerator, this.biomeGenerator);
+            if (this.terrainPipeline == null) {
+                this.terrainPipelineUnavailable = true;
+                return;
+            }
+        }
+        this.terrainPipeline.request(chunks);
+    }
+
+    @Override
+    public net.minecraft.world.chunk.Chunk generateChunk(final int chunkX, final int chunkZ) {
+        final TerrainGenerationPipeline pipeline = this.terrainPipeline;
+        @Nullable final TerrainGenerationPipeline.Terrain terrain = pipeline != null && pipeline.isFor(this.baseGenerator, this.biomeGenerator)
+            ? pipeline.take(chunkX, chunkZ) : null;
+        if (terrain == null) {
+            return super.generateChunk(chunkX, chunkZ);
+        }
+        // Generate the chunk as usual, with the finished stages replayed in place of the generators that produced them
+        final GenerationPopulator baseGenerator = this.baseGenerator;
+        final BiomeGenerator biomeGenerator = this.biomeGenerator;
+        this.baseGenerator = terrain;
+        this.biomeGenerator = terrain;
+        try {
+            return super.generateChunk(chunkX, chunkZ);
+        } finally {
+            this.baseGenerator = baseGenerator;
+            this.biomeGenerator = biomeGenerator;
+        }
+    }
+
     @Override
     public void replaceBiomeBlocks(final World world, final Random rand, final int x, final int z, final ChunkPrimer chunk, final ImmutableBiomeVolume biomes) {
         final ChunkGeneratorEvent.ReplaceBiomeBlocks event = new ChunkGeneratorEvent.ReplaceBiomeBlocks(this, x, z, chunk, world);
@@ -203,122 +283,184 @@ public void populate(final int chunkX, final int chunkZ) {
 
         final BiomeGenerationSettings settings = getBiomeSettings(biome);
 
-        final List<Populator> populators = new ArrayList<>(this.pop);
-
-        Populator snowPopulator = null;
-        final Iterator<Populator> itr = populators.iterator();
-        while (itr.hasNext()) {
-            final Populator populator = itr.next();
-            if (populator instanceof SnowPopulator) {
-                itr.remove();
-                snowPopulator = populator;
-                break;
-            }
-        }
-
-        populators.addAll(settings.getPopulators());
-        if (snowPopulator != null) {
-            populators.add(snowPopulator);
+        List<Populator> populators = this.getOrderedPopulators(biome, settings);
+        if (hasListeners(org.spongepowered.api.event.world.chunk.PopulateChunkEvent.Pre.class)) {
+            // Listeners may change the pending populators
+            populators = new ArrayList<>(populators);
+            Sponge.getGame().getEventManager().post(SpongeEventFactory.createPopulateChunkEventPre(Sponge.getCauseStackManager().getCurrentCause(), populators, chunk));
         }
-
-        Sponge.getGame().getEventManager().post(SpongeEventFactory.createPopulateChunkEventPre(Sponge.getCauseStackManager().getCurrentCause(), populators, chunk));
+        final boolean postPopulate = hasListeners(org.spongepowered.api.event.world.chunk.PopulateChunkEvent.Populate.class);
 
         MinecraftForge.EVENT_BUS.post(new PopulateChunkEvent.Pre(this, this.world, this.rand, chunkX, chunkZ, false));
         MinecraftForge.EVENT_BUS.post(new DecorateBiomeEvent.Pre(this.world, this.rand, blockpos));
         MinecraftForge.ORE_GEN_BUS.post(new OreGenEvent.Pre(this.world, this.rand, blockpos));
-        final List<String> flags = Lists.newArrayList();
-        final Vector3i min = PhaseTracker.getInstance().getCurrentState().getChunkPopulatorOffset(chunk, chunkX, chunkZ);
+        // Populating may generate and populate neighbouring chunks, which then can't share the pooled flags
         final org.spongepowered.api.world.World spongeWorld = (org.spongepowered.api.world.World) this.world;
-        final Extent volume = new SoftBufferExtentViewDownsize(chunk.getWorld(), min, min.add(15, 255, 15), min.sub(8, 0, 8), min.add(23, 255, 23));
+        final List<String> flags = this.populateDepth++ == 0 ? this.populateFlags : new ArrayList<>();
+        try {
+            flags.clear();
+            final Vector3i min = PhaseTracker.getInstance().getCurrentState().getChunkPopulatorOffset(chunk, chunkX, chunkZ);
+            final Extent volume = new SoftBufferExtentViewDownsize(chunk.getWorld(), min, min.add(15, 255, 15), min.sub(8, 0, 8), min.add(23, 255, 23));
+
+            for (final Populator populator : populators) {
+                if (!(populator instanceof PlainsGrassPopulator)) {
+                    if (!this.checkForgeEvent(populator, this, chunkX, chunkZ, flags, chunk)) {
+                        continue;
+                    }
+                } else {
+                    final PlainsGrassPopulator grassPop = (PlainsGrassPopulator) populator;
 
-        for (final Populator populator : populators) {
-            if (!(populator instanceof PlainsGrassPopulator)) {
-                if (!this.checkForgeEvent(populator, this, chunkX, chunkZ, flags, chunk)) {
-                    continue;
-                }
-            } else {
-                final PlainsGrassPopulator grassPop = (PlainsGrassPopulator) populator;
+                    if (!this.checkForgeEvent(grassPop.getFlowers(), this, chunkX, chunkZ, flags, chunk)) {
+                        grassPop.setPopulateFlowers(false);
+                    }
 
-                if (!this.checkForgeEvent(grassPop.getFlowers(), this, chunkX, chunkZ, flags, chunk)) {
-                    grassPop.setPopulateFlowers(false);
-                }
+                    if (!this.checkForgeEvent(grassPop.getGrass(), this, chunkX, chunkZ, flags, chunk)) {
+                        grassPop.setPopulateGrass(false);
+                    }
 
-                if (!this.checkForgeEvent(grassPop.getGrass(), this, chunkX, chunkZ, flags, chunk)) {
-                    grassPop.setPopulateGrass(false);
-                }
+                    if (!this.checkForgeEvent(grassPop.getPlant(), this, chunkX, chunkZ, flags, chunk)) {
+                        grassPop.setPopulateGrass(false);
+                    }
 
-                if (!this.checkForgeEvent(grassPop.getPlant(), this, chunkX, chunkZ, flags, chunk)) {
-                    grassPop.setPopulateGrass(false);
+                    if (!grassPop.isPopulateFlowers() && !grassPop.isPopulateGrass()) {
+                        continue;
+                    }
                 }
 
-                if (!grassPop.isPopulateFlowers() && !grassPop.isPopulateGrass()) {
+                final PopulatorType type = populator.getType();
+
+                if (postPopulate && Sponge.getGame().getEventManager().post(SpongeEventFactory.createPopulateChunkEventPopulate(Sponge.getCauseStackManager().getCurrentCause(), populator, chunk))) {
                     continue;
                 }
-            }
-
-            final PopulatorType type = populator.getType();
 
-            if (Sponge.getGame().getEventManager().post(SpongeEventFactory.createPopulateChunkEventPopulate(Sponge.getCauseStackManager().getCurrentCause(), populator, chunk))) {
-                continue;
+                try (final PopulatorPhaseContext context = GenerationPhase.State.POPULATOR_RUNNING.createPhaseContext()
+                        .world(this.world)
+                        .populator(type)) {
+                    context.buildAndSwitch();
+                    Timing timing = null;
+                    if (Timings.isTimingsEnabled()) {
+                        timing = this.populatorTimings.get(populator.getType().getId());
+                        if (timing == null) {
+                            timing = SpongeTimingsFactory.ofSafe(populator.getType().getId());
+                            this.populatorTimings.put(populator.getType().getId(), timing);
+                        }
+                        timing.startTimingIfSync();
+                    }
+                    if (populator instanceof FlaggedPopulatorBridge) {
+                        ((FlaggedPopulatorBridge) populator).bridge$populate(spongeWorld, volume, this.rand, biomeBuffer, flags);
+                    } else {
+                        populator.populate(spongeWorld, volume, this.rand, biomeBuffer);
+                    }
+                    if (timing != null) {
+                        timing.stopTimingIfSync();
+                    }
+                }
             }
 
-            try (final PopulatorPhaseContext context = GenerationPhase.State.POPULATOR_RUNNING.createPhaseContext()
-                    .world(this.world)
-                    .populator(type)) {
-                context.buildAndSwitch();
+            MinecraftForge.ORE_GEN_BUS.post(new OreGenEvent.Post(this.world, this.rand, blockpos));
+            MinecraftForge.EVENT_BUS.post(new DecorateBiomeEvent.Post(this.world, this.rand, blockpos));
+            MinecraftForge.EVENT_BUS.post(new PopulateChunkEvent.Post(this, this.world, this.rand, chunkX, chunkZ, false));
+
+            // If we wrapped a custom chunk provider then we should call its
+            // populate method so that its particular changes are used.
+            if (this.baseGenerator instanceof SpongeGenerationPopulator) {
                 Timing timing = null;
+                final IChunkGenerator chunkGenerator = ((SpongeGenerationPopulator) this.baseGenerator).getHandle(this.world);
                 if (Timings.isTimingsEnabled()) {
-                    timing = this.populatorTimings.get(populator.getType().getId());
-                    if (timing == null) {
-                        timing = SpongeTimingsFactory.ofSafe(populator.getType().getId());
-                        this.populatorTimings.put(populator.getType().getId(), timing);
-                    }
+                    final TimingBridge spongePopulator = (TimingBridge) this.baseGenerator;
+                    timing = spongePopulator.bridge$getTimingsHandler();
                     timing.startTimingIfSync();
                 }
-                if (populator instanceof FlaggedPopulatorBridge) {
-                    ((FlaggedPopulatorBridge) populator).bridge$populate(spongeWorld, volume, this.rand, biomeBuffer, flags);
-                } else {
-                    populator.populate(spongeWorld, volume, this.rand, biomeBuffer);
+                try (final GenerationCompatibileContext context = GenerationPhase.State.GENERATION_COMPATIBILITY.createPhaseContext()
+                        .populator(InternalPopulatorTypes.UNKNOWN)
+                        .assignModCompatiblity(this, this.world.getChunkProvider(),  chunkGenerator)
+                        .world(this.world)) {
+                    context.buildAndSwitch();
+                    chunkGenerator.populate(chunkX, chunkZ);
                 }
-                if (timing != null) {
+                if (Timings.isTimingsEnabled()) {
                     timing.stopTimingIfSync();
                 }
             }
+        } finally {
+            this.populateDepth--;
+        }
+        if (hasListeners(org.spongepowered.api.event.world.chunk.PopulateChunkEvent.Post.class)) {
+            final org.spongepowered.api.event.world.chunk.PopulateChunkEvent.Post event =
+                    SpongeEventFactory.createPopulateChunkEventPost(Sponge.getCauseStackManager().getCurrentCause(), ImmutableList.copyOf(populators), chunk);
+            SpongeImpl.postEvent(event);
         }
 
-        MinecraftForge.ORE_GEN_BUS.post(new OreGenEvent.Post(this.world, this.rand, blockpos));
-        MinecraftForge.EVENT_BUS.post(new DecorateBiomeEvent.Post(this.world, this.rand, blockpos));
-        MinecraftForge.EVENT_BUS.post(new PopulateChunkEvent.Post(this, this.world, this.rand, chunkX, chunkZ, false));
+        BlockFalling.fallInstantly = false;
+        this.chunkGeneratorTiming.stopTimingIfSync();
+        ((WorldServerBridge) spongeWorld).bridge$getTimingsHandler().chunkPopulate.stopTimingIfSync();
+    }
 
-        // If we wrapped a custom chunk provider then we should call its
-        // populate method so that its particular changes are used.
-        if (this.baseGenerator instanceof SpongeGenerationPopulator) {
-            Timing timing = null;
-            final IChunkGenerator chunkGenerator = ((SpongeGenerationPopulator) this.baseGenerator).getHandle(this.world);
-            if (Timings.isTimingsEnabled()) {
-                final TimingBridge spongePopulator = (TimingBridge) this.baseGenerator;
-                timing = spongePopulator.bridge$getTimingsHandler();
-                timing.startTimingIfSync();
-            }
-            try (final GenerationCompatibileContext context = GenerationPhase.State.GENERATION_COMPATIBILITY.createPhaseContext()
-                    .populator(InternalPopulatorTypes.UNKNOWN)
-                    .assignModCompatiblity(this, this.world.getChunkProvider(),  chunkGenerator)
-                    .world(this.world)) {
-                context.buildAndSwitch();
-                chunkGenerator.populate(chunkX, chunkZ);
+    private static boolean hasListeners(final Class<? extends Event> eventClass) {
+        final EventManager eventManager = Sponge.getEventManager();
+        return !(eventManager instanceof SpongeModEventManager)
+            || !((SpongeModEventManager) eventManager).getHandlerCache(eventClass).getListeners().isEmpty();
+    }
+
+    /**
+     * Gets the populators to run for the given biome: the generator wide
+     * populators followed by those of the biome, with snow always last.
+     * The result is cached per biome and rebuilt once either populator list
+     * or the biome settings themselves are changed.
+     */
+    private List<Populator> getOrderedPopulators(final BiomeType biome, final BiomeGenerationSettings settings) {
+        PopulatorOrder order = this.populatorOrders.get(biome);
+        if (order == null || !order.isValid(this.pop, settings)) {
+            order = new PopulatorOrder(this.pop, settings);
+            this.populatorOrders.put(biome, order);
+        }
+        return order.populators;
+    }
+
+    private static final class PopulatorOrder {
+
+        private final Populator[] generatorPopulators;
+        private final BiomeGenerationSettings settings;
+        private final Populator[] biomePopulators;
+        final ImmutableList<Populator> populators;
+
+        PopulatorOrder(final List<Populator> generatorPopulators, final BiomeGenerationSettings settings) {
+            this.generatorPopulators = generatorPopulators.toArray(new Populator[0]);
+            this.settings = settings;
+            this.biomePopulators = settings.getPopulators().toArray(new Populator[0]);
+
+            final ImmutableList.Builder<Populator> populators = ImmutableList.builder();
+            Populator snowPopulator = null;
+            for (final Populator populator : this.generatorPopulators) {
+                if (snowPopulator == null && populator instanceof SnowPopulator) {
+                    snowPopulator = populator;
+                } else {
+                    populators.add(populator);
+                }
             }
-            if (Timings.isTimingsEnabled()) {
-                timing.stopTimingIfSync();
+            populators.add(this.biomePopulators);
+            if (snowPopulator != null) {
+                populators.add(snowPopulator);
             }
+            this.populators = populators.build();
         }
 
-        final org.spongepowered.api.event.world.chunk.PopulateChunkEvent.Post event =
-                SpongeEventFactory.createPopulateChunkEventPost(Sponge.getCauseStackManager().getCurrentCause(), ImmutableList.copyOf(populators), chunk);
-        SpongeImpl.postEvent(event);
+        boolean isValid(final List<Populator> generatorPopulators, final BiomeGenerationSettings settings) {
+            return this.settings == settings && matches(this.generatorPopulators, generatorPopulators)
+                && matches(this.biomePopulators, settings.getPopulators());
+        }
 
-        BlockFalling.fallInstantly = false;
-        this.chunkGeneratorTiming.stopTimingIfSync();
-        ((WorldServerBridge) spongeWorld).bridge$getTimingsHandler().chunkPopulate.stopTimingIfSync();
+        private static boolean matches(final Populator[] cached, final List<Populator> current) {
+            if (cached.length != current.size()) {
+                return false;
+            }
+            for (int i = 0; i < cached.length; i++) {
+                if (cached[i] != current.get(i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
     }
 
     @SuppressWarnings("deprecation")
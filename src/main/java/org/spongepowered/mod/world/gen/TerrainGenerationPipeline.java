@@ -0,0 +1,329 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.mod.world.gen;
+
+import com.flowpowered.math.vector.Vector3i;
+import it.unimi.dsi.fastutil.longs.Long2ObjectLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.LongList;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.objects.ObjectIterator;
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.init.Blocks;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.World;
+import net.minecraft.world.biome.BiomeProvider;
+import net.minecraft.world.chunk.ChunkPrimer;
+import org.spongepowered.api.block.BlockState;
+import org.spongepowered.api.data.DataContainer;
+import org.spongepowered.api.world.extent.ImmutableBiomeVolume;
+import org.spongepowered.api.world.extent.MutableBiomeVolume;
+import org.spongepowered.api.world.extent.MutableBlockVolume;
+import org.spongepowered.api.world.gen.BiomeGenerator;
+import org.spongepowered.api.world.gen.GenerationPopulator;
+import org.spongepowered.api.world.gen.WorldGenerator;
+import org.spongepowered.api.world.gen.WorldGeneratorModifier;
+import org.spongepowered.api.world.storage.WorldProperties;
+import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.util.gen.ChunkPrimerBuffer;
+import org.spongepowered.common.util.gen.ObjectArrayMutableBiomeBuffer;
+import org.spongepowered.common.world.gen.SpongeGenerationPopulator;
+import org.spongepowered.mod.util.OptimizationFlags;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+import javax.annotation.Nullable;
+
+/**
+ * Runs the biome and base terrain stages of chunk generation on a worker
+ * pool for chunks that are about to be generated. Each worker uses its own
+ * copy of the world generator, and the results are detached from the world.
+ * The base generators are still handed the live world, which they must not
+ * read from, see {@link OptimizationFlags#ASYNC_CHUNK_GENERATION}.
+ * They are only turned into a chunk, with the remaining generation stages
+ * and any Forge events, on the server thread.
+ *
+ * <p>All methods except the worker task itself must be called from the
+ * server thread.</p>
+ */
+final class TerrainGenerationPipeline {
+
+    private static final Vector3i CHUNK_AREA = new Vector3i(16, 1, 16);
+    private static final int WORKERS = Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+    // Bounds the terrain generated for chunks that stop being requested before they are taken
+    private static final int MAX_PENDING = WORKERS * 4;
+
+    /**
+     * Creates the pipeline for the given generators, unless the world
+     * generator can't be copied for the workers.
+     *
+     * @param world The world
+     * @param baseGenerator The base generator used on the server thread
+     * @param biomeGenerator The biome generator used on the server thread
+     * @return The pipeline, or null if it can't be used for the world
+     */
+    @Nullable
+    static TerrainGenerationPipeline create(final World world, final GenerationPopulator baseGenerator, final BiomeGenerator biomeGenerator) {
+        final org.spongepowered.api.world.World spongeWorld = (org.spongepowered.api.world.World) world;
+        // Wrapped vanilla and modded generators, as well as the vanilla biome provider, share state and
+        // access the world, so only plugin provided generators can run off the server thread.
+        if (baseGenerator instanceof SpongeGenerationPopulator || biomeGenerator instanceof BiomeProvider) {
+            return null;
+        }
+        final WorldProperties properties = spongeWorld.getProperties();
+        final DataContainer settings = properties.getGeneratorSettings();
+        final Set<Object> instances = Collections.newSetFromMap(new IdentityHashMap<>());
+        instances.add(baseGenerator);
+        instances.add(biomeGenerator);
+        final BlockingQueue<WorldGenerator> generators = new ArrayBlockingQueue<>(WORKERS);
+        for (int i = 0; i < WORKERS; i++) {
+            // Recreate the world generator the same way the world did
+            final WorldGenerator generator = properties.getGeneratorType().createGenerator(spongeWorld);
+            for (final WorldGeneratorModifier modifier : properties.getGeneratorModifiers()) {
+                modifier.modifyWorldGenerator(properties, settings, generator);
+            }
+            final GenerationPopulator workerBaseGenerator = generator.getBaseGenerationPopulator();
+            final BiomeGenerator workerBiomeGenerator = generator.getBiomeGenerator();
+            if (workerBaseGenerator.getClass() != baseGenerator.getClass() || workerBiomeGenerator.getClass() != biomeGenerator.getClass()
+                || !instances.add(workerBaseGenerator) || !instances.add(workerBiomeGenerator)) {
+                SpongeImpl.getLogger().info("Not generating terrain off thread for world {}, its generators can't be copied for each worker",
+                    properties.getWorldName());
+                return null;
+            }
+            generators.add(generator);
+        }
+        return new TerrainGenerationPipeline(world, baseGenerator, biomeGenerator, generators);
+    }
+
+    private final World world;
+    private final GenerationPopulator baseGenerator;
+    private final BiomeGenerator biomeGenerator;
+    private final BlockingQueue<WorldGenerator> generators;
+    private final Long2ObjectLinkedOpenHashMap<Task> pending = new Long2ObjectLinkedOpenHashMap<>();
+    private final LongOpenHashSet requested = new LongOpenHashSet();
+
+    private TerrainGenerationPipeline(final World world, final GenerationPopulator baseGenerator, final BiomeGenerator biomeGenerator,
+        final BlockingQueue<WorldGenerator> generators) {
+        this.world = world;
+        this.baseGenerator = baseGenerator;
+        this.biomeGenerator = biomeGenerator;
+        this.generators = generators;
+    }
+
+    /**
+     * Gets whether the workers generate the same terrain as the given
+     * generators of the server thread.
+     */
+    boolean isFor(final GenerationPopulator baseGenerator, final BiomeGenerator biomeGenerator) {
+        return this.baseGenerator == baseGenerator && this.biomeGenerator == biomeGenerator;
+    }
+
+    boolean isRequested(final long chunk) {
+        return this.pending.containsKey(chunk);
+    }
+
+    /**
+     * Schedules the terrain of the given chunks, dropping any pending terrain
+     * of chunks that aren't requested anymore.
+     *
+     * @param chunks The requested chunks, most urgent first
+     */
+    void request(final LongList chunks) {
+        if (!this.pending.isEmpty()) {
+            final LongOpenHashSet requested = this.requested;
+            requested.clear();
+            requested.addAll(chunks);
+            for (final ObjectIterator<Long2ObjectMap.Entry<Task>> iterator = this.pending.long2ObjectEntrySet().fastIterator();
+                 iterator.hasNext(); ) {
+                final Long2ObjectMap.Entry<Task> entry = iterator.next();
+                if (!requested.contains(entry.getLongKey())) {
+                    // Tasks that already started can't be stopped, their terrain is discarded once done
+                    entry.getValue().claim();
+                    iterator.remove();
+                }
+            }
+            requested.clear();
+        }
+        for (int i = 0; i < chunks.size() && this.pending.size() < MAX_PENDING; i++) {
+            final long key = chunks.getLong(i);
+            if (!this.pending.containsKey(key)) {
+                // Reverses ChunkPos.asLong
+                final Task task = new Task((int) key, (int) (key >> 32));
+                task.future = CompletableFuture.supplyAsync(task, Pool.INSTANCE);
+                this.pending.put(key, task);
+            }
+        }
+    }
+
+    /**
+     * Takes the terrain of the given chunk, waiting for it if a worker is
+     * currently generating it.
+     *
+     * @return The terrain, or null if it isn't being generated or failed
+     */
+    @Nullable
+    Terrain take(final int chunkX, final int chunkZ) {
+        final Task task = this.pending.remove(ChunkPos.asLong(chunkX, chunkZ));
+        if (task == null || task.claim()) {
+            // Not started yet, generating it right away beats waiting for a worker to pick it up
+            return null;
+        }
+        try {
+            return task.future.join();
+        } catch (CompletionException e) {
+            SpongeImpl.getLogger().error("Failed to generate the terrain of chunk ({}, {}) off thread, generating it again", chunkX, chunkZ,
+                e.getCause());
+            return null;
+        }
+    }
+
+    /**
+     * Drops all pending terrain.
+     */
+    void clear() {
+        for (final Task task : this.pending.values()) {
+            task.claim();
+        }
+        this.pending.clear();
+    }
+
+    private Terrain generate(final int chunkX, final int chunkZ) {
+        final WorldGenerator generator;
+        try {
+            generator = this.generators.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CompletionException(e);
+        }
+        try {
+            final ObjectArrayMutableBiomeBuffer biomes = new ObjectArrayMutableBiomeBuffer(new Vector3i(chunkX * 16, 0, chunkZ * 16), CHUNK_AREA);
+            generator.getBiomeGenerator().generateBiomes(biomes);
+            final ImmutableBiomeVolume biomeVolume = biomes.getImmutableBiomeCopy();
+            final ChunkPrimer primer = new ChunkPrimer();
+            // The live world is only passed on because the API requires one, the flag asserts it isn't read
+            generator.getBaseGenerationPopulator().populate((org.spongepowered.api.world.World) this.world,
+                new ChunkPrimerBuffer(primer, chunkX, chunkZ), biomeVolume);
+            return new Terrain(primer, biomeVolume);
+        } finally {
+            this.generators.add(generator);
+        }
+    }
+
+    /**
+     * The generation of the terrain of a chunk, run by whoever claims it
+     * first: a worker, or the server thread when it can't wait for one.
+     */
+    private final class Task extends AtomicBoolean implements Supplier<Terrain> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int chunkX;
+        private final int chunkZ;
+        CompletableFuture<Terrain> future;
+
+        Task(final int chunkX, final int chunkZ) {
+            this.chunkX = chunkX;
+            this.chunkZ = chunkZ;
+        }
+
+        boolean claim() {
+            return this.compareAndSet(false, true);
+        }
+
+        @Nullable
+        @Override
+        public Terrain get() {
+            return this.claim() ? generate(this.chunkX, this.chunkZ) : null;
+        }
+    }
+
+    /**
+     * The finished biome and base terrain stages of a chunk, replayed into
+     * the buffers of the server thread in place of the generators that
+     * produced them.
+     */
+    static final class Terrain implements GenerationPopulator, BiomeGenerator {
+
+        private final ChunkPrimer primer;
+        private final ImmutableBiomeVolume biomes;
+
+        Terrain(final ChunkPrimer primer, final ImmutableBiomeVolume biomes) {
+            this.primer = primer;
+            this.biomes = biomes;
+        }
+
+        @Override
+        public void generateBiomes(final MutableBiomeVolume buffer) {
+            final Vector3i min = buffer.getBiomeMin();
+            final Vector3i max = buffer.getBiomeMax();
+            for (int x = min.getX(); x <= max.getX(); x++) {
+                for (int z = min.getZ(); z <= max.getZ(); z++) {
+                    buffer.setBiome(x, 0, z, this.biomes.getBiome(x, 0, z));
+                }
+            }
+        }
+
+        @Override
+        public void populate(final org.spongepowered.api.world.World world, final MutableBlockVolume buffer, final ImmutableBiomeVolume biomes) {
+            final Vector3i min = buffer.getBlockMin();
+            for (int y = 0; y < 256; y++) {
+                for (int x = 0; x < 16; x++) {
+                    for (int z = 0; z < 16; z++) {
+                        // The buffer is a fresh primer, which is all air
+                        final IBlockState state = this.primer.getBlockState(x, y, z);
+                        if (state.getBlock() != Blocks.AIR) {
+                            buffer.setBlock(min.getX() + x, y, min.getZ() + z, (BlockState) state);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Holds the worker pool, so it's only started once a world uses the
+     * pipeline.
+     */
+    private static final class Pool {
+
+        static final ForkJoinPool INSTANCE = new ForkJoinPool(WORKERS, pool -> {
+            final ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName("Sponge Terrain Generator - " + thread.getPoolIndex());
+            thread.setDaemon(true);
+            return thread;
+        }, null, true);
+    }
+
+}
@@ -0,0 +1,168 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.mod.event;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.apache.logging.log4j.LogManager;
+import org.junit.Before;
+import org.junit.Test;
+import org.spongepowered.api.event.EventListener;
+import org.spongepowered.api.event.world.ExplosionEvent;
+import org.spongepowered.api.plugin.PluginContainer;
+import org.spongepowered.api.plugin.PluginManager;
+import org.spongepowered.common.event.RegisteredListener;
+
+import java.lang.management.ManagementFactory;
+import java.util.Optional;
+
+/**
+ * Checks that looking up the Sponge listeners of a bridged event allocates
+ * nothing once the lookup is cached, under a synthetic load of 100k events.
+ * Posting an event that does have listeners still creates the Sponge event
+ * and its event data, which is not covered here.
+ */
+public class HandlerCacheAllocationTest {
+
+    // One second of a synthetic load of 100k bridged events per second
+    private static final int EVENTS = 100_000;
+
+    private final Object plugin = new Object();
+    private SpongeModEventManager eventManager;
+    private com.sun.management.ThreadMXBean threadBean;
+
+    @Before
+    public void setup() {
+        assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean);
+        this.threadBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(this.threadBean.isThreadAllocatedMemorySupported());
+        this.threadBean.setThreadAllocatedMemoryEnabled(true);
+
+        final PluginManager pluginManager = mock(PluginManager.class);
+        when(pluginManager.fromInstance(this.plugin)).thenReturn(Optional.of(mock(PluginContainer.class)));
+        this.eventManager = new SpongeModEventManager(LogManager.getLogger("Test"), pluginManager);
+        this.eventManager.registerListener(this.plugin, ExplosionEvent.Pre.class, event -> { });
+        // The mixin that does this in a running server isn't applied in tests
+        this.eventManager.onListenersChanged();
+    }
+
+    @Test
+    public void testClassLookupDoesNotAllocate() {
+        // Builds the cache entry, after which lookups should only read it
+        final RegisteredListener.Cache cache = this.eventManager.getHandlerCache(ExplosionEvent.Pre.class);
+        assertEquals(1, cache.getListeners().size());
+
+        assertEquals(0, allocatedBytes(() -> {
+            for (int i = 0; i < EVENTS; i++) {
+                if (this.eventManager.getHandlerCache(ExplosionEvent.Pre.class) != cache) {
+                    throw new AssertionError("The handler cache changed without a listener change");
+                }
+            }
+        }));
+    }
+
+    @Test
+    public void testEventLookupDoesNotAllocate() {
+        final ExplosionEvent.Pre event = mock(ExplosionEvent.Pre.class);
+        final RegisteredListener.Cache cache = this.eventManager.getHandlerCache(event);
+        assertEquals(1, cache.getListeners().size());
+
+        assertEquals(0, allocatedBytes(() -> {
+            for (int i = 0; i < EVENTS; i++) {
+                if (this.eventManager.getHandlerCache(event) != cache) {
+                    throw new AssertionError("The handler cache changed without a listener change");
+                }
+            }
+        }));
+    }
+
+    @Test
+    public void testBridgedDispatchDecisionDoesNotAllocate() {
+        // Bridged to ExplosionEvent.Pre
+        final net.minecraftforge.event.world.ExplosionEvent.Start event = new net.minecraftforge.event.world.ExplosionEvent.Start(null, null);
+        final ForgeEventVerdict verdict = ForgeEventVerdict.of(event);
+        assertFalse(verdict.isIgnored(event));
+        assertTrue(verdict.isAllowed());
+        final RegisteredListener.Cache cache = verdict.getBridgedListeners(event, this.eventManager);
+        assertNotNull(cache);
+
+        assertEquals(0, allocatedBytes(() -> {
+            for (int i = 0; i < EVENTS; i++) {
+                final ForgeEventVerdict eventVerdict = ForgeEventVerdict.of(event);
+                if (eventVerdict.isIgnored(event) || !eventVerdict.isAllowed()
+                    || eventVerdict.getBridgedListeners(event, this.eventManager) != cache) {
+                    throw new AssertionError("The event was not bridged to the same listeners");
+                }
+            }
+        }));
+    }
+
+    @Test
+    public void testListenerChangeRefreshesLookup() {
+        final RegisteredListener.Cache cache = this.eventManager.getHandlerCache(ExplosionEvent.Pre.class);
+        assertSame(cache, this.eventManager.getHandlerCache(ExplosionEvent.Pre.class));
+
+        final EventListener<ExplosionEvent.Pre> listener = event -> { };
+        this.eventManager.registerListener(this.plugin, ExplosionEvent.Pre.class, listener);
+        this.eventManager.onListenersChanged();
+
+        final RegisteredListener.Cache refreshed = this.eventManager.getHandlerCache(ExplosionEvent.Pre.class);
+        assertNotSame(cache, refreshed);
+        assertEquals(2, refreshed.getListeners().size());
+
+        assertEquals(0, allocatedBytes(() -> {
+            for (int i = 0; i < EVENTS; i++) {
+                this.eventManager.getHandlerCache(ExplosionEvent.Pre.class);
+            }
+        }));
+    }
+
+    /**
+     * Gets the bytes allocated by the current thread while running the given
+     * task, less what reading the allocation counter itself allocates.
+     */
+    private long allocatedBytes(Runnable task) {
+        final long threadId = Thread.currentThread().getId();
+        // The first reads may initialize the management beans
+        for (int i = 0; i < 3; i++) {
+            this.threadBean.getThreadAllocatedBytes(threadId);
+        }
+        final long baselineStart = this.threadBean.getThreadAllocatedBytes(threadId);
+        final long baseline = this.threadBean.getThreadAllocatedBytes(threadId) - baselineStart;
+
+        final long start = this.threadBean.getThreadAllocatedBytes(threadId);
+        task.run();
+        final long allocated = this.threadBean.getThreadAllocatedBytes(threadId) - start;
+        return Math.max(0, allocated - baseline);
+    }
+}